@@ -0,0 +1,224 @@
+package com.meimentor.customer.benchmark;
+
+import com.meimentor.customer.application.usecase.AnalysisStageMetrics;
+import com.meimentor.customer.application.usecase.AnalysisWindow;
+import com.meimentor.customer.application.usecase.EnrichmentService;
+import com.meimentor.customer.application.usecase.MockEnrichmentProvider;
+import com.meimentor.customer.application.usecase.OpportunityService;
+import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.MonthlyRollup;
+import com.meimentor.customer.domain.model.MonthlyRollupSeries;
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+import com.meimentor.customer.domain.model.Transaction;
+import com.meimentor.customer.domain.model.TransactionAccumulator;
+import com.meimentor.customer.domain.port.OpportunityAnalysisRepositoryPort;
+import com.meimentor.customer.infrastructure.persistence.entity.TransactionEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the analysis hot paths on a synthetic customer with 10 to 1,000,000 transactions.
+ * 
+ * <p>Covers the entity-to-domain mapping, commercial pattern detection, activity
+ * identification, the single-pass scoring accumulator and {@link OpportunityService} scoring
+ * from monthly rollups (with mock enrichment and an in-memory repository). The Maven profile
+ * runs JMH with the GC profiler, so every result comes with its allocation rate
+ * ({@code gc.alloc.rate.norm} is bytes per operation).</p>
+ * 
+ * <p>Transactions span 24 months; descriptions, dates and amounts are drawn from small pools
+ * so the largest customer fits the forked 2 GB heap.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AnalysisPipelineBenchmark {
+    
+    private static final String[] DESCRIPTIONS = {
+            "Pix recebido - venda de doces",
+            "Compra de ingredientes",
+            "Salário mensal",
+            "Compra no supermercado",
+            "Pix recebido - serviço prestado",
+            "Pagamento de fornecedor",
+            "TED recebida - desenvolvimento de software",
+            "Transferência entre contas"
+    };
+    
+    private static final int MONTHS = 24;
+    
+    @Param({"10", "1000", "100000", "1000000"})
+    private int transactions;
+    
+    private Customer customer;
+    private List<TransactionEntity> entities;
+    private List<Transaction> unclassified;
+    private List<Transaction> classified;
+    private List<String> nonFoodDescriptions;
+    private MonthlyRollupSeries rollups;
+    private EnrichmentService enrichmentService;
+    private OpportunityService opportunityService;
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        customer = Customer.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .name("Cliente Sintético")
+                .cpf("12345678901")
+                .declaredIncome(BigDecimal.ZERO)
+                .build();
+        
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        LocalDateTime[] dates = new LocalDateTime[MONTHS * 28];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = firstDay.plusMonths(i / 28).plusDays(i % 28).atTime(12, 0);
+        }
+        BigDecimal[] amounts = new BigDecimal[256];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextInt(1_000, 500_000), 2);
+        }
+        
+        entities = new ArrayList<>(transactions);
+        unclassified = new ArrayList<>(transactions);
+        classified = new ArrayList<>(transactions);
+        nonFoodDescriptions = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+            Transaction transaction = Transaction.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .customerId(customer.getId())
+                    .date(dates[random.nextInt(dates.length)])
+                    .amount(amounts[random.nextInt(amounts.length)])
+                    .type(description.startsWith("Compra") || description.startsWith("Pagamento")
+                            ? Transaction.TransactionType.DEBIT
+                            : Transaction.TransactionType.CREDIT)
+                    .description(description)
+                    .build();
+            TransactionEntity entity = TransactionEntity.fromDomain(transaction);
+            unclassified.add(transaction);
+            entities.add(entity);
+            classified.add(entity.toDomain());
+            nonFoodDescriptions.add(description.contains("venda") ? "Compra de ingredientes" : description);
+        }
+        rollups = MonthlyRollupSeries.of(monthlyRollups(classified));
+        
+        enrichmentService = new EnrichmentService(List.of(new MockEnrichmentProvider()), MockEnrichmentProvider.NAME,
+                new SimpleMeterRegistry());
+        opportunityService = new OpportunityService(
+                null,
+                new AnalysisWindow(null, null, 0),
+                new InMemoryAnalysisRepository(),
+                enrichmentService,
+                new AnalysisStageMetrics(new SimpleMeterRegistry())
+        );
+    }
+    
+    @Benchmark
+    public void entityToDomain(Blackhole blackhole) {
+        for (int i = 0, size = entities.size(); i < size; i++) {
+            blackhole.consume(entities.get(i).toDomain());
+        }
+    }
+    
+    @Benchmark
+    public int isCommercialPattern() {
+        int commercial = 0;
+        for (int i = 0, size = unclassified.size(); i < size; i++) {
+            if (unclassified.get(i).isCommercialPattern()) {
+                commercial++;
+            }
+        }
+        return commercial;
+    }
+    
+    @Benchmark
+    public String identifyProbableActivity() {
+        return enrichmentService.identifyProbableActivity(nonFoodDescriptions);
+    }
+    
+    @Benchmark
+    public TransactionAccumulator accumulateTransactions() {
+        return new TransactionAccumulator().acceptAll(classified);
+    }
+    
+    @Benchmark
+    public OpportunityAnalysis scoreFromRollups() {
+        return opportunityService.analyzeOpportunity(customer, rollups, Instant.now());
+    }
+    
+    /**
+     * Aggregates transactions the way ingestion maintains the monthly rollup table.
+     */
+    private static List<MonthlyRollup> monthlyRollups(List<Transaction> transactions) {
+        Map<YearMonth, TransactionAccumulator> accumulators = new TreeMap<>();
+        Map<YearMonth, BigDecimal> debits = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            YearMonth month = YearMonth.from(transaction.getDate());
+            accumulators.computeIfAbsent(month, ignored -> new TransactionAccumulator()).accept(transaction);
+            if (transaction.isDebit()) {
+                debits.merge(month, transaction.getAmount(), BigDecimal::add);
+            }
+        }
+        
+        List<MonthlyRollup> rollups = new ArrayList<>(accumulators.size());
+        accumulators.forEach((month, accumulator) -> rollups.add(MonthlyRollup.builder()
+                .customerId(transactions.get(0).getCustomerId())
+                .month(month)
+                .commercialCreditSum(accumulator.getIdentifiedRevenue())
+                .commercialCreditCount(accumulator.getCommercialCreditCount())
+                .debitSum(debits.getOrDefault(month, BigDecimal.ZERO))
+                .distinctDayCount(28)
+                .activityHints(accumulator.getActivityHints())
+                .build()));
+        return rollups;
+    }
+    
+    /**
+     * Repository keeping only the latest analysis, so scoring is measured without a database.
+     */
+    private static final class InMemoryAnalysisRepository implements OpportunityAnalysisRepositoryPort {
+        
+        private volatile OpportunityAnalysis latest;
+        
+        @Override
+        public OpportunityAnalysis save(OpportunityAnalysis analysis) {
+            latest = analysis;
+            return analysis;
+        }
+        
+        @Override
+        public Optional<OpportunityAnalysis> findByCustomerId(UUID customerId) {
+            return Optional.ofNullable(latest);
+        }
+    }
+}
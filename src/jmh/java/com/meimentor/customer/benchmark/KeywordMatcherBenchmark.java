@@ -0,0 +1,181 @@
+package com.meimentor.customer.benchmark;
+
+import com.meimentor.customer.application.usecase.EnrichmentService;
+import com.meimentor.customer.application.usecase.MockEnrichmentProvider;
+import com.meimentor.customer.domain.model.ActivityCategory;
+import com.meimentor.customer.domain.service.TransactionClassifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the shared keyword automaton with the previous {@code contains()} chains.
+ * 
+ * <p>The {@code legacy*} methods reproduce the matching code that used to live in
+ * {@code Transaction.isCommercialPattern}, {@code EnrichmentService.identifyProbableActivity}
+ * and {@code EnrichmentService.enrichWithMock}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordMatcherBenchmark {
+    
+    private static final String[] DESCRIPTIONS = {
+            "Pix recebido - venda de doces",
+            "Compra de ingredientes",
+            "Salário mensal",
+            "Compra no supermercado",
+            "Pix recebido - serviço prestado",
+            "Pagamento de fornecedor",
+            "TED recebida - desenvolvimento de software",
+            "Transferência entre contas"
+    };
+    
+    private static final String[] ACTIVITY_LABELS = {
+            "Alimentação/Doces", "Serviços/Tech", "Comércio/Serviços", "Outros"
+    };
+    
+    @Param({"100", "10000"})
+    private int transactions;
+    
+    private List<String> descriptions;
+    private List<String> nonFoodDescriptions;
+    private EnrichmentService enrichmentService;
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        descriptions = new ArrayList<>(transactions);
+        nonFoodDescriptions = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+            descriptions.add(description);
+            nonFoodDescriptions.add(description.contains("venda") ? "Compra de ingredientes" : description);
+        }
+        enrichmentService = new EnrichmentService(List.of(new MockEnrichmentProvider()), MockEnrichmentProvider.NAME,
+                new SimpleMeterRegistry());
+    }
+    
+    @Benchmark
+    public void legacyIsCommercialPattern(Blackhole blackhole) {
+        for (String description : descriptions) {
+            blackhole.consume(legacyIsCommercial(description));
+        }
+    }
+    
+    @Benchmark
+    public void matcherIsCommercialPattern(Blackhole blackhole) {
+        for (String description : descriptions) {
+            blackhole.consume(TransactionClassifier.isCommercial(description));
+        }
+    }
+    
+    @Benchmark
+    public void matcherClassifyAll(Blackhole blackhole) {
+        for (String description : descriptions) {
+            blackhole.consume(TransactionClassifier.classify(description));
+        }
+    }
+    
+    @Benchmark
+    public String legacyIdentifyProbableActivity() {
+        return legacyIdentifyProbableActivity(nonFoodDescriptions);
+    }
+    
+    @Benchmark
+    public String matcherIdentifyProbableActivity() {
+        return enrichmentService.identifyProbableActivity(nonFoodDescriptions);
+    }
+    
+    @Benchmark
+    public void legacyMockActivity(Blackhole blackhole) {
+        for (String label : ACTIVITY_LABELS) {
+            blackhole.consume(legacyMockActivity(label));
+        }
+    }
+    
+    @Benchmark
+    public void matcherMockActivity(Blackhole blackhole) {
+        for (String label : ACTIVITY_LABELS) {
+            blackhole.consume(TransactionClassifier.probableActivity(label));
+        }
+    }
+    
+    private static boolean legacyIsCommercial(String description) {
+        if (description == null || description.isBlank()) {
+            return false;
+        }
+        String lowerDescription = description.toLowerCase();
+        return lowerDescription.contains("pix") ||
+               lowerDescription.contains("serviço") ||
+               lowerDescription.contains("venda") ||
+               lowerDescription.contains("pagamento") ||
+               lowerDescription.contains("recebimento") ||
+               lowerDescription.contains("cliente") ||
+               lowerDescription.contains("fornecedor");
+    }
+    
+    private static String legacyIdentifyProbableActivity(List<String> transactionDescriptions) {
+        String allDescriptions = String.join(" ", transactionDescriptions).toLowerCase();
+        if (allDescriptions.contains("doce") ||
+            allDescriptions.contains("alimentação") ||
+            allDescriptions.contains("comida") ||
+            allDescriptions.contains("venda")) {
+            return "Alimentação/Doces";
+        }
+        if (allDescriptions.contains("serviço") ||
+            allDescriptions.contains("tech") ||
+            allDescriptions.contains("software") ||
+            allDescriptions.contains("desenvolvimento")) {
+            return "Serviços/Tech";
+        }
+        if (allDescriptions.contains("pix") ||
+            allDescriptions.contains("recebimento") ||
+            allDescriptions.contains("pagamento")) {
+            return "Comércio/Serviços";
+        }
+        return null;
+    }
+    
+    private static ActivityCategory legacyMockActivity(String probableActivity) {
+        String activityLower = probableActivity.toLowerCase();
+        if (activityLower.contains("alimentação") ||
+            activityLower.contains("doce") ||
+            activityLower.contains("comida") ||
+            activityLower.contains("venda")) {
+            return ActivityCategory.FOOD;
+        }
+        if (activityLower.contains("serviço") ||
+            activityLower.contains("tech") ||
+            activityLower.contains("software") ||
+            activityLower.contains("desenvolvimento")) {
+            return ActivityCategory.TECH;
+        }
+        if (activityLower.contains("pix") ||
+            activityLower.contains("recebimento") ||
+            activityLower.contains("pagamento")) {
+            return ActivityCategory.COMMERCE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,134 @@
+package com.meimentor.customer.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.meimentor.customer.application.usecase.MarketIntelligenceJson;
+import com.meimentor.customer.domain.model.MarketIntelligence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming market intelligence reader with the previous string extractor.
+ * 
+ * <p>The {@code legacy*} methods reproduce the {@code split}/{@code replaceAll} extraction
+ * that used to live in {@code EnrichmentService.parseOpenAIResponse}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarketIntelligenceParsingBenchmark {
+    
+    private static final String RESPONSE = """
+            {
+              "businessNiche": "Confeitaria",
+              "digitalPresenceScore": 78,
+              "estimatedMaturity": "Em Expansão",
+              "socialMediaPlatform": "Instagram",
+              "socialMediaFollowers": 2450,
+              "hasGoogleMapsPresence": true,
+              "recommendedApproach": "Cliente com presença ativa no Instagram e cadastro no Google Maps. \
+            Destacar economia tributária, emissão de notas fiscais e acesso a crédito para expansão."
+            }""";
+    
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+    
+    private final JsonFactory jsonFactory = new JsonFactory();
+    
+    @Benchmark
+    public MarketIntelligence streamingReader() throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(RESPONSE)) {
+            return MarketIntelligenceJson.readAnswer(parser).toMarketIntelligence(CUSTOMER_ID, "Alimentação/Doces");
+        }
+    }
+    
+    @Benchmark
+    public MarketIntelligence legacyExtractor() {
+        return MarketIntelligence.builder()
+                .id(UUID.randomUUID())
+                .customerId(CUSTOMER_ID)
+                .businessNiche(legacyExtractField(RESPONSE, "businessNiche", "Alimentação/Doces"))
+                .digitalPresenceScore(legacyExtractScore(RESPONSE))
+                .estimatedMaturity(legacyExtractField(RESPONSE, "estimatedMaturity", "Em Expansão"))
+                .recommendedApproach(legacyExtractField(RESPONSE, "recommendedApproach",
+                        "Abordagem recomendada baseada na análise de mercado."))
+                .socialMediaPlatform(legacyExtractField(RESPONSE, "socialMediaPlatform", null))
+                .socialMediaFollowers(legacyExtractFollowers(RESPONSE))
+                .hasGoogleMapsPresence(legacyExtractBoolean(RESPONSE, "hasGoogleMapsPresence"))
+                .build();
+    }
+    
+    private static int legacyExtractScore(String response) {
+        try {
+            String[] parts = response.split("digitalPresenceScore");
+            if (parts.length > 1) {
+                String scorePart = parts[1].replaceAll("[^0-9]", "");
+                if (!scorePart.isEmpty()) {
+                    return Math.min(100, Integer.parseInt(scorePart.substring(0, Math.min(3, scorePart.length()))));
+                }
+            }
+        } catch (Exception e) {
+            // Ignore
+        }
+        return ThreadLocalRandom.current().nextInt(50, 85);
+    }
+    
+    private static String legacyExtractField(String response, String fieldName, String defaultValue) {
+        try {
+            String[] parts = response.split(fieldName);
+            if (parts.length > 1) {
+                String value = parts[1].split("[,\"}]")[0].trim().replaceAll("\"", "");
+                if (!value.isEmpty() && !value.equals("null")) {
+                    return value;
+                }
+            }
+        } catch (Exception e) {
+            // Ignore
+        }
+        return defaultValue;
+    }
+    
+    private static Integer legacyExtractFollowers(String response) {
+        try {
+            String[] parts = response.split("socialMediaFollowers");
+            if (parts.length > 1) {
+                String followersPart = parts[1].replaceAll("[^0-9]", "");
+                if (!followersPart.isEmpty()) {
+                    return Integer.parseInt(followersPart);
+                }
+            }
+        } catch (Exception e) {
+            // Ignore
+        }
+        return null;
+    }
+    
+    private static Boolean legacyExtractBoolean(String response, String fieldName) {
+        try {
+            String[] parts = response.split(fieldName);
+            if (parts.length > 1) {
+                String value = parts[1].split("[,\"}]")[0].trim().toLowerCase();
+                return value.contains("true");
+            }
+        } catch (Exception e) {
+            // Ignore
+        }
+        return false;
+    }
+}
@@ -0,0 +1,105 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.MonthlyRollup;
+import com.meimentor.customer.domain.model.MonthlyRollupSeries;
+import com.meimentor.customer.domain.port.MonthlyRollupRepositoryPort;
+import com.meimentor.customer.domain.port.TransactionRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Trailing window of transactions that opportunity analyses are computed over.
+ * 
+ * <p>With {@code opportunity.analysis.window-days} set (e.g. 30, 90 or 365), figures come from
+ * the transactions dated within the last N days, aggregated by the database over the
+ * {@code (customer_id, date)} index, so the cost grows with the window rather than the
+ * customer's history; revenue is then normalised to a {@value #DAYS_PER_MONTH}-day month over
+ * the days of the window the customer actually covered, counted from its first transaction.
+ * With 0, the whole history is read from the monthly rollups and revenue is taken as is.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+public class AnalysisWindow {
+    
+    static final int DAYS_PER_MONTH = 30;
+    
+    private final TransactionRepositoryPort transactionRepository;
+    private final MonthlyRollupRepositoryPort rollupRepository;
+    private final int days;
+    
+    public AnalysisWindow(
+            TransactionRepositoryPort transactionRepository,
+            MonthlyRollupRepositoryPort rollupRepository,
+            @Value("${opportunity.analysis.window-days:90}") int days
+    ) {
+        if (days < 0) {
+            throw new IllegalArgumentException("opportunity.analysis.window-days must not be negative: " + days);
+        }
+        this.transactionRepository = transactionRepository;
+        this.rollupRepository = rollupRepository;
+        this.days = days;
+    }
+    
+    /**
+     * Loads the monthly figures of a customer inside the window.
+     * 
+     * @param customerId the customer ID
+     * @return the customer monthly figures
+     */
+    public MonthlyRollupSeries load(UUID customerId) {
+        if (days == 0) {
+            return MonthlyRollupSeries.of(rollupRepository.findByCustomerId(customerId));
+        }
+        LocalDateTime end = LocalDateTime.now();
+        return MonthlyRollupSeries.of(transactionRepository.aggregateMonthly(customerId, end.minusDays(days), end));
+    }
+    
+    /**
+     * Loads the monthly figures of many customers inside the window at once.
+     * 
+     * @param customerIds the customer IDs
+     * @return monthly figures grouped by customer ID; customers without any are absent
+     */
+    public Map<UUID, List<MonthlyRollup>> loadAll(Collection<UUID> customerIds) {
+        if (days == 0) {
+            return rollupRepository.findByCustomerIdIn(customerIds);
+        }
+        LocalDateTime end = LocalDateTime.now();
+        return transactionRepository.aggregateMonthly(customerIds, end.minusDays(days), end);
+    }
+    
+    /**
+     * Normalises an amount summed over the window to one month.
+     * 
+     * <p>A customer whose first transaction falls inside the window is only measured over the
+     * days since then (that day included), so a recent customer's revenue is not diluted by
+     * days before it existed.</p>
+     * 
+     * @param windowAmount the amount summed over the window
+     * @param firstTransactionDate the customer's first transaction date (null to use the whole window)
+     * @return the monthly amount with scale 2 (unchanged when the window is the whole history)
+     */
+    public BigDecimal toMonthly(BigDecimal windowAmount, LocalDate firstTransactionDate) {
+        if (days == 0) {
+            return windowAmount;
+        }
+        long coveredDays = days;
+        if (firstTransactionDate != null) {
+            long sinceFirst = ChronoUnit.DAYS.between(firstTransactionDate, LocalDate.now()) + 1;
+            coveredDays = Math.max(1, Math.min(days, sinceFirst));
+        }
+        return windowAmount.multiply(BigDecimal.valueOf(DAYS_PER_MONTH))
+                .divide(BigDecimal.valueOf(coveredDays), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,158 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.MonthlyRollup;
+import com.meimentor.customer.domain.model.MonthlyRollupSeries;
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+import com.meimentor.customer.domain.port.CustomerRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service responsible for analyzing many customers in one call.
+ * 
+ * <p>Customers are resolved with a single {@code IN} lookup and their monthly figures
+ * inside the {@link AnalysisWindow} with another, then each customer is scored on its
+ * own virtual thread with bounded concurrency. Results are handed to the caller as soon as each analysis completes,
+ * in completion order. Invalid and unknown CPFs are reported inline.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Service
+@Slf4j
+public class BatchOpportunityService {
+    
+    private final CustomerRepositoryPort customerRepository;
+    private final AnalysisWindow analysisWindow;
+    private final CoalescingOpportunityAnalyzer analyzer;
+    private final int parallelism;
+    
+    public BatchOpportunityService(
+            CustomerRepositoryPort customerRepository,
+            AnalysisWindow analysisWindow,
+            CoalescingOpportunityAnalyzer analyzer,
+            @Value("${opportunity.batch.parallelism:32}") int parallelism
+    ) {
+        this.customerRepository = customerRepository;
+        this.analysisWindow = analysisWindow;
+        this.analyzer = analyzer;
+        this.parallelism = parallelism;
+    }
+    
+    /**
+     * Analyzes a batch of customers identified by CPF.
+     * 
+     * <p>{@code onResult} is always invoked on the calling thread, once per distinct CPF,
+     * so it may write to a non thread-safe sink such as a response stream.</p>
+     * 
+     * @param cpfs the customer CPFs (formatted or digits only; duplicates are analyzed once)
+     * @param onResult callback receiving each result as soon as it is available
+     */
+    public void analyzeBatch(List<String> cpfs, Consumer<Result> onResult) {
+        Set<String> validCpfs = new LinkedHashSet<>();
+        Set<String> reported = new LinkedHashSet<>();
+        for (String cpf : cpfs) {
+            String normalized = Customer.normalizeCpf(cpf);
+            if (normalized.length() != 11) {
+                if (reported.add(String.valueOf(cpf))) {
+                    onResult.accept(new Result(cpf, Status.INVALID_CPF, null, "Invalid CPF format"));
+                }
+            } else {
+                validCpfs.add(normalized);
+            }
+        }
+        
+        Map<String, Customer> customersByCpf = customerRepository.findByCpfIn(validCpfs).stream()
+                .collect(Collectors.toMap(Customer::getCpf, Function.identity(), (a, b) -> a));
+        for (String cpf : validCpfs) {
+            if (!customersByCpf.containsKey(cpf)) {
+                onResult.accept(new Result(cpf, Status.NOT_FOUND, null, "Customer not found for CPF: " + cpf));
+            }
+        }
+        
+        List<UUID> customerIds = customersByCpf.values().stream().map(Customer::getId).toList();
+        Instant readAt = Instant.now();
+        Map<UUID, List<MonthlyRollup>> rollupsByCustomer = analysisWindow.loadAll(customerIds);
+        
+        log.info("Batch analysis: {} requested, {} customers resolved", cpfs.size(), customersByCpf.size());
+        
+        BlockingQueue<Result> completed = new LinkedBlockingQueue<>();
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (Customer customer : customersByCpf.values()) {
+                executor.execute(() -> completed.add(analyze(customer, rollupsByCustomer, readAt, permits)));
+            }
+            for (int i = 0; i < customersByCpf.size(); i++) {
+                onResult.accept(completed.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch analysis interrupted", e);
+        } finally {
+            // Stops pending analyses if the caller failed (e.g. client disconnected)
+            executor.shutdownNow();
+        }
+    }
+    
+    private Result analyze(
+            Customer customer,
+            Map<UUID, List<MonthlyRollup>> rollupsByCustomer,
+            Instant readAt,
+            Semaphore permits
+    ) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(customer.getCpf(), Status.ERROR, null, "Analysis cancelled");
+        }
+        
+        try {
+            MonthlyRollupSeries rollups = MonthlyRollupSeries.of(
+                    rollupsByCustomer.getOrDefault(customer.getId(), Collections.emptyList()));
+            OpportunityAnalysis analysis = analyzer.analyze(customer, rollups, readAt);
+            return new Result(customer.getCpf(), Status.OK, analysis, null);
+        } catch (Exception e) {
+            log.warn("Batch analysis failed for customer {}: {}", customer.getId(), e.getMessage());
+            return new Result(customer.getCpf(), Status.ERROR, null, e.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+    
+    /**
+     * Outcome of a single CPF in a batch.
+     */
+    public enum Status {
+        OK, INVALID_CPF, NOT_FOUND, ERROR
+    }
+    
+    /**
+     * Result of a single CPF in a batch.
+     * 
+     * @param cpf the CPF as requested (normalized when valid)
+     * @param status the outcome
+     * @param analysis the analysis when status is OK, otherwise null
+     * @param message the error message when status is not OK, otherwise null
+     */
+    public record Result(String cpf, Status status, OpportunityAnalysis analysis, String message) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.meimentor.customer.application.usecase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Small thread-safe LRU map with a hard size bound.
+ * 
+ * <p>Once {@code maxSize} entries are held, inserting a new key evicts the least recently
+ * accessed one and reports it to the eviction listener (outside of the cache lock).</p>
+ * 
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author MEI-Mentor Team
+ */
+final class BoundedLruCache<K, V> {
+    
+    private final int maxSize;
+    private final BiConsumer<K, V> onEvict;
+    private final LinkedHashMap<K, V> entries;
+    
+    BoundedLruCache(int maxSize, BiConsumer<K, V> onEvict) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.onEvict = onEvict;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+    
+    /**
+     * Gets a value, marking it as recently used.
+     * 
+     * @param key the key
+     * @return the value, or null if absent
+     */
+    V get(K key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+    
+    /**
+     * Inserts or replaces a value, evicting the eldest entry if the cache is full.
+     * 
+     * @param key the key
+     * @param value the value
+     */
+    void put(K key, V value) {
+        Map.Entry<K, V> evicted = null;
+        synchronized (entries) {
+            entries.put(key, value);
+            if (entries.size() > maxSize) {
+                Map.Entry<K, V> eldest = entries.entrySet().iterator().next();
+                evicted = Map.entry(eldest.getKey(), eldest.getValue());
+                entries.remove(eldest.getKey());
+            }
+        }
+        if (evicted != null) {
+            onEvict.accept(evicted.getKey(), evicted.getValue());
+        }
+    }
+    
+    /**
+     * Removes a key if it is still mapped to the given value.
+     * 
+     * @param key the key
+     * @param value the expected value
+     * @return true if the entry was removed
+     */
+    boolean remove(K key, V value) {
+        synchronized (entries) {
+            return entries.remove(key, value);
+        }
+    }
+    
+    /**
+     * Removes a key.
+     * 
+     * @param key the key
+     * @return the removed value, or null if absent
+     */
+    V remove(K key) {
+        synchronized (entries) {
+            return entries.remove(key);
+        }
+    }
+    
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
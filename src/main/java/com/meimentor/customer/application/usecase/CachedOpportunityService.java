@@ -0,0 +1,325 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.application.usecase.AnalysisStageMetrics.Stage;
+import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.EnrichmentStatus;
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+import com.meimentor.customer.domain.model.TransactionsIngestedEvent;
+import com.meimentor.customer.domain.port.CustomerRepositoryPort;
+import com.meimentor.customer.domain.port.MonthlyRollupRepositoryPort;
+import com.meimentor.customer.domain.port.OpportunityAnalysisRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Serves opportunity analyses without recomputing them when nothing has changed.
+ * 
+ * <p>A stored analysis is fresh while it is newer than the customer's last transaction
+ * ingestion and younger than {@code opportunity.cache.ttl}. Lookups go through:
+ * - a bounded in-memory L1 keyed by CPF (entries live at most {@code opportunity.cache.l1.ttl}
+ *   and are evicted when the customer's transactions change)
+ * - the stored analysis in the database
+ * - a synchronous analysis, only when the customer was never analyzed</p>
+ * 
+ * <p>{@link #getAnalysisWithoutWaiting(String)} skips that synchronous analysis: it returns
+ * the base figures with a pending enrichment status and computes the full analysis in the
+ * background, to be picked up with {@link #awaitCompletion(String, OpportunityAnalysis)}
+ * or by asking again.</p>
+ * 
+ * <p>A stale analysis is returned immediately while a background refresh recomputes it
+ * (stale-while-revalidate). Computations go through {@link CoalescingOpportunityAnalyzer},
+ * so concurrent requests for the same customer share one analysis.
+ * Each ingestion bumps a per-customer version; an analysis computed or read while the
+ * version changed is kept in L1 as stale, so figures from before the ingestion are
+ * never served as fresh. Lookups and refreshes are counted in the {@code opportunity.analysis.cache.*} metrics.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Service
+@Slf4j
+public class CachedOpportunityService {
+    
+    private static final int INGESTION_VERSION_STRIPES = 4096; // Power of two; collisions only mark entries stale
+    
+    private final CustomerRepositoryPort customerRepository;
+    private final OpportunityAnalysisRepositoryPort analysisRepository;
+    private final MonthlyRollupRepositoryPort rollupRepository;
+    private final CoalescingOpportunityAnalyzer analyzer;
+    private final OpportunityService opportunityService;
+    private final AnalysisStageMetrics stageMetrics;
+    private final Duration ttl;
+    private final Duration l1Ttl;
+    private final Duration latencyBudget;
+    
+    private final BoundedLruCache<String, CachedAnalysis> l1;
+    private final Map<UUID, String> cpfByCustomerId = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<OpportunityAnalysis>> refreshes = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLongArray ingestionVersions = new AtomicLongArray(INGESTION_VERSION_STRIPES);
+    
+    private final Counter l1Hits;
+    private final Counter storeHits;
+    private final Counter staleServed;
+    private final Counter misses;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+    
+    public CachedOpportunityService(
+            CustomerRepositoryPort customerRepository,
+            OpportunityAnalysisRepositoryPort analysisRepository,
+            MonthlyRollupRepositoryPort rollupRepository,
+            CoalescingOpportunityAnalyzer analyzer,
+            OpportunityService opportunityService,
+            AnalysisStageMetrics stageMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${opportunity.cache.ttl:PT24H}") Duration ttl,
+            @Value("${opportunity.cache.l1.ttl:PT5M}") Duration l1Ttl,
+            @Value("${opportunity.cache.l1.max-size:10000}") int l1MaxSize,
+            @Value("${opportunity.latency-budget:PT5S}") Duration latencyBudget
+    ) {
+        this.customerRepository = customerRepository;
+        this.analysisRepository = analysisRepository;
+        this.rollupRepository = rollupRepository;
+        this.analyzer = analyzer;
+        this.opportunityService = opportunityService;
+        this.stageMetrics = stageMetrics;
+        this.ttl = ttl;
+        this.l1Ttl = l1Ttl;
+        this.latencyBudget = latencyBudget;
+        this.l1 = new BoundedLruCache<>(l1MaxSize, (cpf, evicted) -> cpfByCustomerId.remove(evicted.customerId(), cpf));
+        
+        this.l1Hits = lookupCounter(meterRegistry, "l1_hit");
+        this.storeHits = lookupCounter(meterRegistry, "store_hit");
+        this.staleServed = lookupCounter(meterRegistry, "stale");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.refreshSuccesses = refreshCounter(meterRegistry, "success");
+        this.refreshFailures = refreshCounter(meterRegistry, "failure");
+        meterRegistry.gauge("opportunity.analysis.cache.l1.size", l1, BoundedLruCache::size);
+    }
+    
+    /**
+     * Gets the analysis of a customer identified by CPF, recomputing it only when needed.
+     * 
+     * @param cpf the customer CPF
+     * @return the current analysis, or the previous one while a refresh is in progress
+     * @throws IllegalArgumentException if customer not found
+     */
+    public OpportunityAnalysis getAnalysis(String cpf) {
+        return getAnalysis(cpf, latencyBudget);
+    }
+    
+    /**
+     * Gets the analysis of a customer identified by CPF within the caller's latency budget.
+     * 
+     * <p>A synchronous analysis gives up on slow enrichment in time to answer with the
+     * fallback market intelligence before the budget runs out.</p>
+     * 
+     * @param cpf the customer CPF
+     * @param latencyBudget the time the caller is willing to wait
+     * @return the current analysis, or the previous one while a refresh is in progress
+     * @throws IllegalArgumentException if customer not found
+     */
+    public OpportunityAnalysis getAnalysis(String cpf, Duration latencyBudget) {
+        return LatencyBudget.call(latencyBudget, () -> lookup(cpf, true));
+    }
+    
+    /**
+     * Gets the analysis of a customer identified by CPF without waiting for enrichment.
+     * 
+     * <p>Behaves like {@link #getAnalysis(String)}, except that a customer never analyzed
+     * gets the base figures at once, with {@link EnrichmentStatus#PENDING} status, while the
+     * full analysis is computed in the background.</p>
+     * 
+     * @param cpf the customer CPF
+     * @return the current analysis, or the base figures while enrichment is pending
+     * @throws IllegalArgumentException if customer not found
+     */
+    public OpportunityAnalysis getAnalysisWithoutWaiting(String cpf) {
+        return lookup(cpf, false);
+    }
+    
+    /**
+     * Waits for the background computation that will replace an analysis returned earlier.
+     * 
+     * @param cpf the customer CPF
+     * @param current the analysis returned earlier for that CPF
+     * @return future completed with the recomputed analysis, or with {@code current} itself
+     *         when nothing is being recomputed
+     */
+    public CompletableFuture<OpportunityAnalysis> awaitCompletion(String cpf, OpportunityAnalysis current) {
+        CompletableFuture<OpportunityAnalysis> refresh = refreshes.get(current.getCustomerId());
+        if (refresh != null) {
+            return refresh.copy();
+        }
+        if (current.isEnrichmentPending()) {
+            // Finished in between; the result was already cached
+            return CompletableFuture.completedFuture(getAnalysis(cpf));
+        }
+        return CompletableFuture.completedFuture(current);
+    }
+    
+    private OpportunityAnalysis lookup(String cpf, boolean awaitMiss) {
+        Instant now = Instant.now();
+        
+        CachedAnalysis cached = l1.get(cpf);
+        if (cached != null && cached.cachedAt().plus(l1Ttl).isAfter(now) && isWithinTtl(cached.analysis(), now)) {
+            if (cached.fresh()) {
+                l1Hits.increment();
+            } else {
+                staleServed.increment();
+                refreshInBackground(cached.customer());
+            }
+            return cached.analysis();
+        }
+        
+        Customer customer = stageMetrics.time(Stage.CUSTOMER_LOOKUP, () -> customerRepository.findByCpf(cpf))
+                .orElseThrow(() -> new IllegalArgumentException("Customer not found for CPF: " + cpf));
+        
+        long version = ingestionVersion(customer.getId());
+        Optional<OpportunityAnalysis> stored = analysisRepository.findByCustomerId(customer.getId());
+        if (stored.isEmpty()) {
+            misses.increment();
+            if (!awaitMiss) {
+                OpportunityAnalysis base = opportunityService.analyzeWithoutEnrichment(customer);
+                refreshInBackground(customer);
+                return base;
+            }
+            OpportunityAnalysis analysis = analyzer.analyze(customer);
+            remember(customer, analysis, true, version);
+            return analysis;
+        }
+        
+        OpportunityAnalysis analysis = stored.get();
+        if (isFresh(customer, analysis, now)) {
+            storeHits.increment();
+            remember(customer, analysis, true, version);
+        } else {
+            staleServed.increment();
+            remember(customer, analysis, false, version);
+            refreshInBackground(customer);
+        }
+        return analysis;
+    }
+    
+    /**
+     * Drops cached analyses of customers whose transactions just changed.
+     * 
+     * @param event the ingestion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsIngested(TransactionsIngestedEvent event) {
+        for (UUID customerId : event.customerIds()) {
+            ingestionVersions.incrementAndGet(stripe(customerId));
+            String cpf = cpfByCustomerId.remove(customerId);
+            if (cpf != null) {
+                l1.remove(cpf);
+            }
+        }
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+    
+    private boolean isFresh(Customer customer, OpportunityAnalysis analysis, Instant now) {
+        if (!isWithinTtl(analysis, now)) {
+            return false;
+        }
+        return rollupRepository.findLastUpdatedAt(customer.getId())
+                .map(lastIngested -> analysis.getAnalyzedAt().isAfter(lastIngested))
+                .orElse(true);
+    }
+    
+    private boolean isWithinTtl(OpportunityAnalysis analysis, Instant now) {
+        // Analyses stored before analyzedAt existed are always stale
+        return analysis.getAnalyzedAt() != null && analysis.getAnalyzedAt().plus(ttl).isAfter(now);
+    }
+    
+    private void refreshInBackground(Customer customer) {
+        CompletableFuture<OpportunityAnalysis> refresh = new CompletableFuture<>();
+        if (refreshes.putIfAbsent(customer.getId(), refresh) != null) {
+            return;
+        }
+        long version = ingestionVersion(customer.getId());
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    OpportunityAnalysis refreshed = analyzer.analyze(customer);
+                    remember(customer, refreshed, true, version);
+                    refreshSuccesses.increment();
+                    refresh.complete(refreshed);
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    log.warn("Background refresh failed for customer {}: {}", customer.getId(), e.getMessage());
+                    refresh.completeExceptionally(e);
+                } finally {
+                    refreshes.remove(customer.getId(), refresh);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Executor shut down: the stale analysis is still served
+            refreshes.remove(customer.getId(), refresh);
+            refresh.completeExceptionally(e);
+        }
+    }
+    
+    /**
+     * Caches an analysis in L1, as stale if the customer's transactions were ingested after
+     * {@code version} was read, since the analysis may predate them.
+     */
+    private void remember(Customer customer, OpportunityAnalysis analysis, boolean fresh, long version) {
+        boolean current = fresh && ingestionVersion(customer.getId()) == version;
+        cpfByCustomerId.put(customer.getId(), customer.getCpf());
+        l1.put(customer.getCpf(), new CachedAnalysis(customer, analysis, Instant.now(), current));
+        if (current && ingestionVersion(customer.getId()) != version) {
+            // Ingested while caching, possibly after the eviction ran
+            l1.put(customer.getCpf(), new CachedAnalysis(customer, analysis, Instant.now(), false));
+        }
+    }
+    
+    private long ingestionVersion(UUID customerId) {
+        return ingestionVersions.get(stripe(customerId));
+    }
+    
+    private static int stripe(UUID customerId) {
+        return customerId.hashCode() & (INGESTION_VERSION_STRIPES - 1);
+    }
+    
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("opportunity.analysis.cache.lookups")
+                .description("Opportunity analysis lookups by cache outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+    
+    private static Counter refreshCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("opportunity.analysis.cache.refreshes")
+                .description("Background computations of stale or pending opportunity analyses")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+    
+    private record CachedAnalysis(Customer customer, OpportunityAnalysis analysis, Instant cachedAt, boolean fresh) {
+        
+        UUID customerId() {
+            return customer.getId();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.MonthlyRollupSeries;
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Runs at most one analysis per customer at a time.
+ * 
+ * <p>When several callers (e.g. the frontend and the CRM, or a batch overlapping single
+ * lookups) ask for the same customer concurrently, only the first computes and saves the
+ * analysis; the others wait for it and receive the same result. This avoids duplicate AI
+ * calls and colliding writes on the unique {@code opportunity_analyses.customer_id}.
+ * Suppressed duplicates are counted in {@code opportunity.analysis.singleflight.suppressed}.</p>
+ * 
+ * <p>A waiting caller whose {@link LatencyBudget} runs out stops waiting and computes the
+ * analysis itself without saving it; with the budget spent, its enrichment falls back at
+ * once. Those callers are counted in {@code opportunity.analysis.singleflight.abandoned}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Service
+public class CoalescingOpportunityAnalyzer {
+    
+    private final OpportunityService opportunityService;
+    private final SingleFlight<UUID, OpportunityAnalysis> analyses;
+    
+    public CoalescingOpportunityAnalyzer(OpportunityService opportunityService, MeterRegistry meterRegistry) {
+        this.opportunityService = opportunityService;
+        Counter suppressed = Counter.builder("opportunity.analysis.singleflight.suppressed")
+                .description("Concurrent duplicate analyses that joined an in-flight computation")
+                .register(meterRegistry);
+        Counter abandoned = Counter.builder("opportunity.analysis.singleflight.abandoned")
+                .description("Callers whose latency budget ran out while waiting for an in-flight analysis")
+                .register(meterRegistry);
+        this.analyses = new SingleFlight<>(suppressed::increment, abandoned::increment);
+        meterRegistry.gauge("opportunity.analysis.singleflight.inflight", analyses, SingleFlight::inFlight);
+    }
+    
+    /**
+     * Analyzes a customer, joining an analysis of the same customer already in flight.
+     * 
+     * @param customer the customer to analyze
+     * @return the saved analysis
+     */
+    public OpportunityAnalysis analyze(Customer customer) {
+        return analyses.execute(customer.getId(),
+                () -> opportunityService.analyzeOpportunity(customer),
+                () -> opportunityService.analyzeWithoutSaving(customer));
+    }
+    
+    /**
+     * Analyzes a customer whose rollups were already loaded, joining an analysis of the
+     * same customer already in flight.
+     * 
+     * @param customer the customer to analyze
+     * @param rollups the customer monthly rollups
+     * @param readAt when the rollups were read
+     * @return the saved analysis
+     */
+    public OpportunityAnalysis analyze(Customer customer, MonthlyRollupSeries rollups, Instant readAt) {
+        return analyses.execute(customer.getId(),
+                () -> opportunityService.analyzeOpportunity(customer, rollups, readAt),
+                () -> opportunityService.analyzeWithoutSaving(customer, rollups, readAt));
+    }
+}
@@ -0,0 +1,105 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.port.CustomerRepositoryPort;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Read-only CPF to customer ID lookup, preloaded for bulk imports.
+ * 
+ * <p>CPFs are kept as numbers in a sorted {@code long[]} next to the ID halves, about
+ * 24 bytes per customer, and looked up by binary search without allocating, so a file
+ * row never needs its CPF as a String.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+final class CpfIndex {
+    
+    private final long[] cpfs;
+    private final long[] idHigh;
+    private final long[] idLow;
+    
+    private CpfIndex(long[] cpfs, long[] idHigh, long[] idLow) {
+        this.cpfs = cpfs;
+        this.idHigh = idHigh;
+        this.idLow = idLow;
+    }
+    
+    /**
+     * Loads the CPF and ID of every customer.
+     * 
+     * @param customerRepository the customer repository
+     * @return the index
+     */
+    static CpfIndex load(CustomerRepositoryPort customerRepository) {
+        long[][] entries = {new long[1024], new long[1024], new long[1024]};
+        int[] count = {0};
+        customerRepository.forEachCpf((cpf, id) -> {
+            long key = key(cpf);
+            if (key < 0) {
+                return;
+            }
+            if (count[0] == entries[0].length) {
+                for (int i = 0; i < entries.length; i++) {
+                    entries[i] = Arrays.copyOf(entries[i], count[0] * 2);
+                }
+            }
+            entries[0][count[0]] = key;
+            entries[1][count[0]] = id.getMostSignificantBits();
+            entries[2][count[0]] = id.getLeastSignificantBits();
+            count[0]++;
+        });
+        
+        int size = count[0];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(entries[0][a], entries[0][b]));
+        long[] cpfs = new long[size];
+        long[] idHigh = new long[size];
+        long[] idLow = new long[size];
+        for (int i = 0; i < size; i++) {
+            cpfs[i] = entries[0][order[i]];
+            idHigh[i] = entries[1][order[i]];
+            idLow[i] = entries[2][order[i]];
+        }
+        return new CpfIndex(cpfs, idHigh, idLow);
+    }
+    
+    /**
+     * Finds the customer with a CPF.
+     * 
+     * @param cpf the CPF digits as a number
+     * @return the customer ID, or null if no customer has this CPF
+     */
+    UUID find(long cpf) {
+        int i = Arrays.binarySearch(cpfs, cpf);
+        return i >= 0 ? new UUID(idHigh[i], idLow[i]) : null;
+    }
+    
+    int size() {
+        return cpfs.length;
+    }
+    
+    /**
+     * Converts a stored CPF to its numeric key, ignoring dots and dashes.
+     * 
+     * @return the key, or -1 if the CPF does not have 11 digits
+     */
+    private static long key(String cpf) {
+        long value = 0;
+        int digits = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                digits++;
+            } else if (c != '.' && c != '-') {
+                return -1;
+            }
+        }
+        return digits == 11 ? value : -1;
+    }
+}
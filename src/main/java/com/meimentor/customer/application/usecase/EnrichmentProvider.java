@@ -0,0 +1,41 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.MarketIntelligence;
+
+/**
+ * Source of market intelligence used by {@link EnrichmentService}.
+ * 
+ * <p>The provider named by {@code enrichment.provider} answers every enrichment request;
+ * whenever it is unavailable or fails, the {@link MockEnrichmentProvider} answers instead.
+ * Implementations are Spring beans, so a new source only needs a new bean with its own
+ * {@link #name()}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public interface EnrichmentProvider {
+    
+    /**
+     * Gets the name this provider is selected by in {@code enrichment.provider}.
+     * 
+     * @return provider name
+     */
+    String name();
+    
+    /**
+     * Checks whether the provider can currently answer (e.g. it is configured).
+     * 
+     * @return true if {@link #enrich(EnrichmentRequest)} may be called
+     */
+    default boolean isAvailable() {
+        return true;
+    }
+    
+    /**
+     * Produces market intelligence for one customer.
+     * 
+     * @param request the customer and its probable activity
+     * @return the market intelligence
+     * @throws RuntimeException if no answer could be produced; the caller falls back to mock data
+     */
+    MarketIntelligence enrich(EnrichmentRequest request);
+}
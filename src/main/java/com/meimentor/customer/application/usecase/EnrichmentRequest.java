@@ -0,0 +1,25 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.ActivityCategory;
+
+import java.util.UUID;
+
+/**
+ * A customer to be enriched with market intelligence.
+ * 
+ * @param customerName the customer name
+ * @param activity the probable business activity resolved from the transactions, may be null
+ * @param customerId the customer ID
+ * @author MEI-Mentor Team
+ */
+public record EnrichmentRequest(String customerName, ActivityCategory activity, UUID customerId) {
+    
+    /**
+     * Gets the label of the probable activity, as shown to users and AI prompts.
+     * 
+     * @return the activity label (e.g., "Alimentação/Doces"), or null if no activity was resolved
+     */
+    public String probableActivity() {
+        return activity != null ? activity.getLabel() : null;
+    }
+}
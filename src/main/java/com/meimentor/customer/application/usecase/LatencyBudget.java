@@ -0,0 +1,61 @@
+package com.meimentor.customer.application.usecase;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Deadline of the current caller, carried along the calling thread.
+ * 
+ * <p>Request handlers wrap their work in {@link #call(Duration, Supplier)}; slow
+ * dependencies further down (e.g. the OpenAI enrichment call) read {@link #remaining()}
+ * to give up in time for the caller to fall back. Nested budgets can only shorten the
+ * deadline. Work handed to other threads runs without a budget.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public final class LatencyBudget {
+    
+    private static final ThreadLocal<Instant> DEADLINE = new ThreadLocal<>();
+    
+    private LatencyBudget() {
+    }
+    
+    /**
+     * Runs work within a latency budget.
+     * 
+     * @param budget the time the caller is willing to wait
+     * @param work the work to run
+     * @param <T> the result type
+     * @return the work result
+     */
+    public static <T> T call(Duration budget, Supplier<T> work) {
+        Instant previous = DEADLINE.get();
+        Instant deadline = Instant.now().plus(budget);
+        if (previous != null && previous.isBefore(deadline)) {
+            deadline = previous;
+        }
+        
+        DEADLINE.set(deadline);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(previous);
+            }
+        }
+    }
+    
+    /**
+     * Gets the time left before the current caller's deadline.
+     * 
+     * @return remaining time (zero or negative once expired), or empty without a budget
+     */
+    public static Optional<Duration> remaining() {
+        Instant deadline = DEADLINE.get();
+        return deadline == null ? Optional.empty() : Optional.of(Duration.between(Instant.now(), deadline));
+    }
+}
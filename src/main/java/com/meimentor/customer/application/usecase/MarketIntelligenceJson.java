@@ -0,0 +1,273 @@
+package com.meimentor.customer.application.usecase;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.meimentor.customer.domain.model.MarketIntelligence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JSON contract of the market intelligence answered by OpenAI.
+ * 
+ * <p>Provides the function definitions (JSON Schema) that force the model to answer with
+ * structured arguments, and a streaming reader that turns those arguments into
+ * {@link Answer}s in a single pass over the tokens. Unknown fields are skipped; an answer
+ * without {@code digitalPresenceScore} is incomplete rather than filled with a guess.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public final class MarketIntelligenceJson {
+    
+    /**
+     * Name of the function answering one profile.
+     */
+    public static final String FUNCTION_NAME = "registrar_inteligencia_mercado";
+    
+    /**
+     * Name of the function answering a batch of profiles.
+     */
+    public static final String BATCH_FUNCTION_NAME = "registrar_inteligencia_mercado_lote";
+    
+    private static final String DEFAULT_MATURITY = "Em Expansão";
+    private static final String DEFAULT_APPROACH = "Abordagem recomendada baseada na análise de mercado.";
+    
+    private MarketIntelligenceJson() {
+    }
+    
+    /**
+     * Builds the function definition for a single-profile answer.
+     * 
+     * @return function definition to send in the chat completion request
+     */
+    public static Map<String, Object> function() {
+        return Map.of(
+                "name", FUNCTION_NAME,
+                "description", "Registra a inteligência de mercado de um perfil de cliente",
+                "parameters", answerSchema(false)
+        );
+    }
+    
+    /**
+     * Builds the function definition for a batch answer, one entry per numbered profile.
+     * 
+     * @return function definition to send in the chat completion request
+     */
+    public static Map<String, Object> batchFunction() {
+        Map<String, Object> profiles = Map.of(
+                "type", "array",
+                "items", answerSchema(true)
+        );
+        return Map.of(
+                "name", BATCH_FUNCTION_NAME,
+                "description", "Registra a inteligência de mercado de cada perfil de cliente numerado",
+                "parameters", Map.of(
+                        "type", "object",
+                        "properties", Map.of("profiles", profiles),
+                        "required", List.of("profiles"),
+                        "additionalProperties", false
+                )
+        );
+    }
+    
+    /**
+     * Reads one answer object.
+     * 
+     * @param parser the parser, positioned on or just before the object start
+     * @return the answer
+     * @throws IOException if the input is not a well-formed JSON object
+     */
+    public static Answer readAnswer(JsonParser parser) throws IOException {
+        if (parser.currentToken() == null) {
+            parser.nextToken();
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object but found " + parser.currentToken());
+        }
+        
+        int index = 0;
+        String businessNiche = null;
+        Integer digitalPresenceScore = null;
+        String estimatedMaturity = null;
+        String socialMediaPlatform = null;
+        Integer socialMediaFollowers = null;
+        boolean hasGoogleMapsPresence = false;
+        String recommendedApproach = null;
+        
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "index" -> index = parser.getValueAsInt(0);
+                case "businessNiche" -> businessNiche = readText(parser);
+                case "digitalPresenceScore" -> {
+                    Integer score = readInt(parser);
+                    digitalPresenceScore = score != null ? Math.max(0, Math.min(100, score)) : null;
+                }
+                case "estimatedMaturity" -> estimatedMaturity = readText(parser);
+                case "socialMediaPlatform" -> socialMediaPlatform = readText(parser);
+                case "socialMediaFollowers" -> socialMediaFollowers = readInt(parser);
+                case "hasGoogleMapsPresence" -> hasGoogleMapsPresence = parser.getValueAsBoolean(false);
+                case "recommendedApproach" -> recommendedApproach = readText(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new IOException("Unterminated JSON object");
+        }
+        
+        return new Answer(index, businessNiche, digitalPresenceScore, estimatedMaturity,
+                socialMediaPlatform, socialMediaFollowers, hasGoogleMapsPresence, recommendedApproach);
+    }
+    
+    /**
+     * Reads a batch answer: either the {@code {"profiles": [...]}} function arguments or a
+     * bare array of answer objects.
+     * 
+     * @param parser the parser, positioned on or just before the object or array start
+     * @return the answers, in the order received
+     * @throws IOException if the input is not well-formed
+     */
+    public static List<Answer> readAnswers(JsonParser parser) throws IOException {
+        if (parser.currentToken() == null) {
+            parser.nextToken();
+        }
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("profiles".equals(field)) {
+                    return readArray(parser);
+                }
+                parser.skipChildren();
+            }
+            throw new IOException("Batch answer has no profiles");
+        }
+        return readArray(parser);
+    }
+    
+    private static List<Answer> readArray(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected a JSON array but found " + parser.currentToken());
+        }
+        List<Answer> answers = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == null) {
+                throw new IOException("Unterminated JSON array");
+            }
+            answers.add(readAnswer(parser));
+        }
+        return answers;
+    }
+    
+    private static String readText(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!parser.currentToken().isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        String text = parser.getValueAsString();
+        return text == null || text.isBlank() || text.equals("null") ? null : text.trim();
+    }
+    
+    private static Integer readInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isNumeric()) {
+            return parser.getValueAsInt();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+    
+    private static Map<String, Object> answerSchema(boolean indexed) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        if (indexed) {
+            properties.put("index", Map.of("type", "integer", "description", "Número do perfil"));
+        }
+        properties.put("businessNiche", Map.of("type", "string",
+                "description", "Nicho do negócio, ex: 'Confeitaria', 'Desenvolvimento de Software'"));
+        properties.put("digitalPresenceScore", Map.of("type", "integer", "minimum", 0, "maximum", 100));
+        properties.put("estimatedMaturity", Map.of("type", "string",
+                "description", "Ex: 'Iniciante', 'Em Expansão', 'Freelancer'"));
+        properties.put("socialMediaPlatform", Map.of("type", List.of("string", "null"),
+                "description", "Ex: 'Instagram', 'LinkedIn'"));
+        properties.put("socialMediaFollowers", Map.of("type", List.of("integer", "null")));
+        properties.put("hasGoogleMapsPresence", Map.of("type", "boolean"));
+        properties.put("recommendedApproach", Map.of("type", "string",
+                "description", "Recomendação de abordagem para o cliente"));
+        
+        return Map.of(
+                "type", "object",
+                "properties", properties,
+                "required", List.copyOf(properties.keySet()),
+                "additionalProperties", false
+        );
+    }
+    
+    /**
+     * One market intelligence answer as read from the JSON.
+     * 
+     * @param index the profile number in a batch (0 when absent)
+     * @param businessNiche the business niche (may be null)
+     * @param digitalPresenceScore the digital presence score, clamped to 0-100 (null if missing)
+     * @param estimatedMaturity the estimated maturity (may be null)
+     * @param socialMediaPlatform the main social media platform (may be null)
+     * @param socialMediaFollowers the follower count (may be null)
+     * @param hasGoogleMapsPresence whether the business is on Google Maps
+     * @param recommendedApproach the recommended approach (may be null)
+     */
+    public record Answer(
+            int index,
+            String businessNiche,
+            Integer digitalPresenceScore,
+            String estimatedMaturity,
+            String socialMediaPlatform,
+            Integer socialMediaFollowers,
+            boolean hasGoogleMapsPresence,
+            String recommendedApproach
+    ) {
+        
+        /**
+         * Checks whether the answer carries the fields scoring depends on.
+         * 
+         * @return true if the digital presence score is present
+         */
+        public boolean isComplete() {
+            return digitalPresenceScore != null;
+        }
+        
+        /**
+         * Converts the answer into market intelligence for a customer.
+         * 
+         * @param customerId the customer ID
+         * @param defaultNiche the niche used when the answer has none
+         * @return the market intelligence
+         */
+        public MarketIntelligence toMarketIntelligence(UUID customerId, String defaultNiche) {
+            return MarketIntelligence.builder()
+                    .id(UUID.randomUUID())
+                    .customerId(customerId)
+                    .businessNiche(businessNiche != null ? businessNiche : defaultNiche)
+                    .digitalPresenceScore(digitalPresenceScore)
+                    .estimatedMaturity(estimatedMaturity != null ? estimatedMaturity : DEFAULT_MATURITY)
+                    .recommendedApproach(recommendedApproach != null ? recommendedApproach : DEFAULT_APPROACH)
+                    .socialMediaPlatform(socialMediaPlatform)
+                    .socialMediaFollowers(socialMediaFollowers)
+                    .hasGoogleMapsPresence(hasGoogleMapsPresence)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.meimentor.customer.application.usecase;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Groups items submitted by concurrent callers into batches.
+ * 
+ * <p>A batch is dispatched when it reaches {@code maxSize} items or {@code window} after
+ * its first item arrived, whichever comes first. The handler receives the items in
+ * submission order and returns results in the same order; each caller's future completes
+ * with its own result, or with null when the handler returned fewer results. A handler
+ * failure fails every future of the batch.</p>
+ * 
+ * <p>Dispatched batch sizes are recorded in the {@code <name>.size} distribution.</p>
+ * 
+ * @param <I> the item type
+ * @param <O> the result type
+ * @author MEI-Mentor Team
+ */
+final class MicroBatcher<I, O> {
+    
+    private final int maxSize;
+    private final Duration window;
+    private final Function<List<I>, List<O>> handler;
+    private final DistributionSummary batchSizes;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "micro-batcher-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    
+    private List<Pending<I, O>> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    
+    MicroBatcher(String name, int maxSize, Duration window, Function<List<I>, List<O>> handler, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.window = window;
+        this.handler = handler;
+        this.batchSizes = DistributionSummary.builder(name + ".size")
+                .description("Items per dispatched batch")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Adds an item to the current batch.
+     * 
+     * @param item the item
+     * @return future completed with the item's result (null if the batch left it out)
+     */
+    CompletableFuture<O> submit(I item) {
+        Pending<I, O> entry = new Pending<>(item, new CompletableFuture<>());
+        List<Pending<I, O>> full = null;
+        synchronized (this) {
+            pending.add(entry);
+            if (pending.size() >= maxSize) {
+                full = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = timer.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return entry.result();
+    }
+    
+    /**
+     * Stops the batcher; batches not yet dispatched fail.
+     */
+    void shutdown() {
+        timer.shutdownNow();
+        dispatcher.shutdownNow();
+        List<Pending<I, O>> left;
+        synchronized (this) {
+            left = drain();
+        }
+        left.forEach(entry -> entry.result().completeExceptionally(new RejectedExecutionException("Batcher shut down")));
+    }
+    
+    private void flush() {
+        List<Pending<I, O>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+    
+    private List<Pending<I, O>> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<Pending<I, O>> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+    
+    private void dispatch(List<Pending<I, O>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            dispatcher.execute(() -> {
+                try {
+                    List<O> results = handler.apply(batch.stream().map(Pending::item).toList());
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).result().complete(i < results.size() ? results.get(i) : null);
+                    }
+                } catch (RuntimeException e) {
+                    batch.forEach(entry -> entry.result().completeExceptionally(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            batch.forEach(entry -> entry.result().completeExceptionally(e));
+        }
+    }
+    
+    private record Pending<I, O>(I item, CompletableFuture<O> result) {
+    }
+}
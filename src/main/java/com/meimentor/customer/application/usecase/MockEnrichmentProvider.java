@@ -0,0 +1,195 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.ActivityCategory;
+import com.meimentor.customer.domain.model.MarketIntelligence;
+import org.springframework.stereotype.Component;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Enrichment provider generating market intelligence locally from the probable activity.
+ * 
+ * <p>Always available and answers without I/O; {@link EnrichmentService} uses it as the
+ * fallback of every other provider. Customers without a probable activity get a
+ * no-digital-presence profile.</p>
+ * 
+ * <p>Answers are a pure function of (customer ID, activity): the simulated followers and
+ * scores come from a {@link SplittableRandom} (SplitMix64) seeded with both, so the same
+ * customer always gets the same digital presence score, the score-dependent bonus and
+ * shadow limit stay stable, and analyses can be cached and compared across runs. Only the
+ * generated record ID differs between calls.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+public class MockEnrichmentProvider implements EnrichmentProvider {
+    
+    public static final String NAME = "mock";
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+    
+    /**
+     * Enriches customer profile using mock data (fallback).
+     */
+    @Override
+    public MarketIntelligence enrich(EnrichmentRequest request) {
+        ActivityCategory activity = request.activity();
+        if (activity == null) {
+            return createNoPresenceIntelligence(request.customerId());
+        }
+        
+        SplittableRandom random = seededRandom(request.customerId(), activity);
+        return switch (activity) {
+            case FOOD -> createFoodBusinessIntelligence(request.customerName(), request.customerId(), random);
+            case TECH -> createTechServiceIntelligence(request.customerName(), request.customerId(), random);
+            case COMMERCE -> createGenericBusinessIntelligence(request.customerName(), request.customerId(), random);
+        };
+    }
+    
+    /**
+     * Creates the generator behind the simulated figures of one customer and activity.
+     * 
+     * <p>SplittableRandom mixes its seed with the SplitMix64 finalizer, so IDs differing in
+     * a single bit still yield unrelated sequences.</p>
+     */
+    private static SplittableRandom seededRandom(UUID customerId, ActivityCategory activity) {
+        long seed = activity.ordinal() * 0x9E3779B97F4A7C15L;
+        if (customerId != null) {
+            seed ^= customerId.getMostSignificantBits() ^ Long.rotateLeft(customerId.getLeastSignificantBits(), 32);
+        }
+        return new SplittableRandom(seed);
+    }
+    
+    /**
+     * Creates market intelligence for food business (doces, confeitaria).
+     */
+    private MarketIntelligence createFoodBusinessIntelligence(String customerName, UUID customerId, SplittableRandom random) {
+        int followers = random.nextInt(1500, 3500);
+        int presenceScore = calculatePresenceScore(followers, true);
+        
+        return MarketIntelligence.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .businessNiche("Confeitaria / Alimentação")
+                .digitalPresenceScore(presenceScore)
+                .estimatedMaturity("Em Expansão")
+                .socialMediaPlatform("Instagram")
+                .socialMediaFollowers(followers)
+                .hasGoogleMapsPresence(true)
+                .recommendedApproach(
+                    String.format(
+                        "Cliente identificado com presença ativa no Instagram (@%s) com %d seguidores. " +
+                        "Negócio de confeitaria em expansão com cadastro no Google Maps. " +
+                        "Abordagem recomendada: Destacar economia tributária e facilidade de emissão de notas fiscais " +
+                        "para aumentar credibilidade com clientes. Oferecer limite de crédito como diferencial competitivo.",
+                        customerName.toLowerCase().replace(" ", ""),
+                        followers
+                    )
+                )
+                .build();
+    }
+    
+    /**
+     * Creates market intelligence for tech/service business.
+     */
+    private MarketIntelligence createTechServiceIntelligence(String customerName, UUID customerId, SplittableRandom random) {
+        int presenceScore = random.nextInt(60, 85);
+        
+        return MarketIntelligence.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .businessNiche("Desenvolvimento de Software / Serviços Tech")
+                .digitalPresenceScore(presenceScore)
+                .estimatedMaturity("Freelancer")
+                .socialMediaPlatform("LinkedIn / GitHub")
+                .socialMediaFollowers(null)
+                .hasGoogleMapsPresence(false)
+                .recommendedApproach(
+                    String.format(
+                        "Perfil identificado como prestador de serviços tech (freelancer). " +
+                        "Presença em plataformas profissionais (LinkedIn/GitHub). " +
+                        "Abordagem recomendada: Enfatizar benefícios fiscais do MEI para profissionais de TI, " +
+                        "possibilidade de trabalhar com empresas maiores que exigem CNPJ, e acesso a crédito para " +
+                        "investimento em equipamentos e cursos de capacitação.",
+                        customerName
+                    )
+                )
+                .build();
+    }
+    
+    /**
+     * Creates market intelligence for generic commercial activity.
+     */
+    private MarketIntelligence createGenericBusinessIntelligence(String customerName, UUID customerId, SplittableRandom random) {
+        boolean hasSocialMedia = random.nextBoolean();
+        int presenceScore = hasSocialMedia
+                ? random.nextInt(30, 60)
+                : random.nextInt(10, 30);
+        
+        return MarketIntelligence.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .businessNiche("Comércio / Serviços Gerais")
+                .digitalPresenceScore(presenceScore)
+                .estimatedMaturity("Iniciante")
+                .socialMediaPlatform(hasSocialMedia ? "Instagram" : null)
+                .socialMediaFollowers(hasSocialMedia ? random.nextInt(100, 800) : null)
+                .hasGoogleMapsPresence(random.nextBoolean())
+                .recommendedApproach(
+                    "Atividade comercial identificada através de análise de transações. " +
+                    "Abordagem recomendada: Apresentar os benefícios da formalização MEI de forma educativa, " +
+                    "destacando economia tributária, acesso a crédito e maior credibilidade no mercado."
+                )
+                .build();
+    }
+    
+    /**
+     * Creates market intelligence for no digital presence.
+     */
+    private MarketIntelligence createNoPresenceIntelligence(UUID customerId) {
+        return MarketIntelligence.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .businessNiche(null)
+                .digitalPresenceScore(0)
+                .estimatedMaturity(null)
+                .socialMediaPlatform(null)
+                .socialMediaFollowers(null)
+                .hasGoogleMapsPresence(false)
+                .recommendedApproach(
+                    "Sem presença digital encontrada. " +
+                    "Abordagem recomendada: Focar em educação sobre os benefícios da formalização MEI, " +
+                    "destacando economia tributária e acesso a crédito como principais vantagens."
+                )
+                .build();
+    }
+    
+    /**
+     * Calculates digital presence score based on followers and Google Maps presence.
+     */
+    private int calculatePresenceScore(int followers, boolean hasGoogleMaps) {
+        int score = 0;
+        
+        // Followers contribution (max 70 points)
+        if (followers >= 2000) {
+            score += 70;
+        } else if (followers >= 1000) {
+            score += 50;
+        } else if (followers >= 500) {
+            score += 30;
+        } else if (followers >= 100) {
+            score += 15;
+        }
+        
+        // Google Maps presence (max 30 points)
+        if (hasGoogleMaps) {
+            score += 30;
+        }
+        
+        return Math.min(100, score);
+    }
+}
@@ -0,0 +1,482 @@
+package com.meimentor.customer.application.usecase;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meimentor.customer.domain.model.MarketIntelligence;
+import com.meimentor.customer.domain.model.MarketIntelligenceTemplate;
+import com.meimentor.customer.domain.port.MarketIntelligenceCachePort;
+import com.meimentor.customer.infrastructure.config.OpenAIConfig;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.Usage;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.completion.chat.ChatFunctionCall;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.completion.chat.ChatMessageRole;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Enrichment provider asking OpenAI for market intelligence.
+ * 
+ * <p>AI answers are cached per model and probable activity as
+ * {@link MarketIntelligenceTemplate}s, so customers sharing a niche reuse one call and only
+ * their customer-specific fields are filled in locally.</p>
+ * 
+ * <p>OpenAI calls go through an {@link UpstreamGuard}: a bulkhead bounds concurrent calls,
+ * each call is cut short at the caller's {@link LatencyBudget}, and a circuit breaker skips
+ * OpenAI after repeated failures. In all those cases {@link #enrich(EnrichmentRequest)} throws
+ * {@link UpstreamGuard.UpstreamUnavailableException} at once.</p>
+ * 
+ * <p>Concurrent prompts are micro-batched: requests arriving within {@code openai.batch.window}
+ * (up to {@code openai.batch.max-size}) share one completion that answers a JSON array, one
+ * entry per distinct activity. A batch of one is sent as a single-customer prompt. A customer
+ * left out of the answer, or of a failed batch, falls back to its own single-customer prompt;
+ * one whose wait for a pending batch times out is reported unavailable rather than asking again.</p>
+ * 
+ * <p>The model is forced to answer through a function whose arguments follow the
+ * {@link MarketIntelligenceJson} schema; the arguments are read in one streaming pass.
+ * Unreadable answers are counted in {@code enrichment.openai.parse.failures} and reported
+ * as failures, so they are never cached.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+@Slf4j
+public class OpenAiEnrichmentProvider implements EnrichmentProvider {
+    
+    public static final String NAME = "openai";
+    
+    private static final ObjectMapper JSON = new ObjectMapper();
+    
+    private final OpenAiService openAiService; // Can be null if not configured
+    private final OpenAIConfig openAIConfig;
+    private final MarketIntelligenceCachePort intelligenceCache;
+    private final UpstreamGuard openAiGuard;
+    private final MicroBatcher<EnrichmentRequest, MarketIntelligence> batcher; // Null when batching is disabled
+    private final Counter batchFallbacks;
+    private final Counter parseFailures;
+    private final Counter promptTokens;
+    private final Counter completionTokens;
+    
+    @Autowired
+    public OpenAiEnrichmentProvider(
+            @Nullable OpenAiService openAiService, 
+            OpenAIConfig openAIConfig,
+            MarketIntelligenceCachePort intelligenceCache,
+            MeterRegistry meterRegistry
+    ) {
+        this.openAiService = openAiService;
+        this.openAIConfig = openAIConfig;
+        this.intelligenceCache = intelligenceCache;
+        this.openAiGuard = new UpstreamGuard(
+                "enrichment.openai",
+                openAIConfig.getMaxConcurrentCalls(),
+                openAIConfig.getMaxBulkheadWait(),
+                openAIConfig.getTimeout(),
+                openAIConfig.getCircuitFailureThreshold(),
+                openAIConfig.getCircuitOpenDuration(),
+                meterRegistry
+        );
+        this.batcher = openAIConfig.getBatchMaxSize() > 1
+                ? new MicroBatcher<>(
+                        "enrichment.openai.batch",
+                        openAIConfig.getBatchMaxSize(),
+                        openAIConfig.getBatchWindow(),
+                        this::enrichBatchWithOpenAI,
+                        meterRegistry)
+                : null;
+        this.batchFallbacks = Counter.builder("enrichment.openai.batch.fallbacks")
+                .description("Batched customers re-sent as single-customer prompts")
+                .register(meterRegistry);
+        this.parseFailures = Counter.builder("enrichment.openai.parse.failures")
+                .description("OpenAI answers that could not be read as market intelligence")
+                .register(meterRegistry);
+        this.promptTokens = Counter.builder("enrichment.openai.tokens").tag("type", "prompt")
+                .description("Tokens billed by OpenAI for enrichment").register(meterRegistry);
+        this.completionTokens = Counter.builder("enrichment.openai.tokens").tag("type", "completion")
+                .description("Tokens billed by OpenAI for enrichment").register(meterRegistry);
+    }
+    
+    /**
+     * Adds the usage of a completion to {@code enrichment.openai.tokens}.
+     * 
+     * @param completion the completion
+     * @return the total tokens of the completion (0 if not reported)
+     */
+    private long countTokens(ChatCompletionResult completion) {
+        Usage usage = completion.getUsage();
+        if (usage == null) {
+            return 0;
+        }
+        promptTokens.increment(usage.getPromptTokens());
+        completionTokens.increment(usage.getCompletionTokens());
+        return usage.getTotalTokens();
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+        openAiGuard.shutdown();
+    }
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+    
+    @Override
+    public boolean isAvailable() {
+        return openAiService != null && openAIConfig.isEnabled();
+    }
+    
+    /**
+     * Enriches customer profile using OpenAI API, reusing the cached answer of the niche.
+     * 
+     * @param request the customer and its probable activity
+     * @return MarketIntelligence with AI-generated data
+     * @throws UpstreamGuard.UpstreamUnavailableException if OpenAI is skipped by the guard
+     * @throws IllegalStateException if the answer cannot be read
+     */
+    @Override
+    public MarketIntelligence enrich(EnrichmentRequest request) {
+        Optional<MarketIntelligenceTemplate> cached = intelligenceCache.find(cacheKey(request));
+        if (cached.isPresent()) {
+            log.debug("♻️ Inteligência de mercado em cache para: {}", request.probableActivity());
+            return cached.get().personalise(request.customerId(), request.customerName());
+        }
+        
+        log.debug("🤖 Enriquecendo com OpenAI: {}", request.probableActivity());
+        return batcher != null ? enrichInBatch(request) : enrichWithOpenAI(request);
+    }
+    
+    /**
+     * Enriches customer profile using OpenAI API.
+     * 
+     * @param enrichment the customer to enrich
+     * @return MarketIntelligence with AI-generated data
+     */
+    private MarketIntelligence enrichWithOpenAI(EnrichmentRequest enrichment) {
+        String customerName = enrichment.customerName();
+        String probableActivity = enrichment.probableActivity();
+        String prompt = String.format(
+            "Analise o perfil de um cliente chamado %s que tem atividade provável de: %s. " +
+            "Registre uma análise de inteligência de mercado com os seguintes campos: " +
+            "businessNiche (ex: 'Confeitaria', 'Desenvolvimento de Software'), " +
+            "digitalPresenceScore (0-100), " +
+            "estimatedMaturity (ex: 'Iniciante', 'Em Expansão', 'Freelancer'), " +
+            "socialMediaPlatform (ex: 'Instagram', 'LinkedIn', null), " +
+            "socialMediaFollowers (número ou null), " +
+            "hasGoogleMapsPresence (true/false), " +
+            "recommendedApproach (texto com recomendação de abordagem para o cliente). " +
+            "Seja realista e baseado em padrões de mercado brasileiro.",
+            customerName, probableActivity
+        );
+        
+        boolean sampled = TraceSampling.isSampled();
+        log.debug("📤 Enviando prompt para OpenAI (modelo {}, temperature {}, max tokens {})",
+                openAIConfig.getModel(), openAIConfig.getTemperature(), openAIConfig.getMaxTokens());
+        if (sampled) {
+            log.info("📤 Prompt: {}", TraceSampling.payload(prompt));
+        }
+        
+        ChatMessage userMessage = new ChatMessage(ChatMessageRole.USER.value(), prompt);
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model(openAIConfig.getModel())
+                .messages(Arrays.asList(userMessage))
+                .temperature(openAIConfig.getTemperature())
+                .maxTokens(openAIConfig.getMaxTokens())
+                .functions(List.of(MarketIntelligenceJson.function()))
+                .functionCall(ChatCompletionRequest.ChatCompletionRequestFunctionCall.of(MarketIntelligenceJson.FUNCTION_NAME))
+                .build();
+        
+        ChatCompletionResult completion = openAiGuard.call(() -> openAiService.createChatCompletion(request));
+        ChatMessage answer = completion
+                .getChoices()
+                .get(0)
+                .getMessage();
+        long totalTokens = countTokens(completion);
+        
+        if (sampled) {
+            log.info("📥 Resposta da OpenAI ({} tokens): {}", totalTokens, TraceSampling.payload(answerText(answer)));
+        }
+        
+        // Parse the structured answer; failures fall back to mock data without being cached
+        MarketIntelligence result = parseAnswer(answer).toMarketIntelligence(enrichment.customerId(), probableActivity);
+        log.debug("✅ Dados parseados: Niche={}, Score={}, Maturity={}", 
+                result.getBusinessNiche(), 
+                result.getDigitalPresenceScore(), 
+                result.getEstimatedMaturity());
+        
+        if (MarketIntelligenceTemplate.canAnonymise(customerName)) {
+            intelligenceCache.put(MarketIntelligenceTemplate.of(cacheKey(enrichment), result, customerName, totalTokens));
+        }
+        return result;
+    }
+    
+    /**
+     * Enriches a customer through the micro-batcher, falling back to a single-customer prompt
+     * when the batch answered without it or failed.
+     * 
+     * @param enrichment the customer to enrich
+     * @return MarketIntelligence with AI-generated data
+     * @throws UpstreamGuard.UpstreamUnavailableException if the batch is skipped by the guard or
+     *         still pending when the wait ends
+     */
+    private MarketIntelligence enrichInBatch(EnrichmentRequest enrichment) {
+        Duration maxWait = openAIConfig.getTimeout().plus(openAIConfig.getBatchWindow());
+        Duration wait = LatencyBudget.remaining()
+                .filter(remaining -> remaining.compareTo(maxWait) < 0)
+                .orElse(maxWait);
+        
+        CompletableFuture<MarketIntelligence> batched = batcher.submit(enrichment);
+        try {
+            MarketIntelligence result = batched.get(Math.max(0, wait.toNanos()), TimeUnit.NANOSECONDS);
+            if (result != null) {
+                return result;
+            }
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof BatchFailedException failed)) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            }
+            log.warn("📦 Lote da OpenAI falhou ({}). Enviando prompt individual...", failed.getCause().getMessage());
+        } catch (TimeoutException e) {
+            // The batch is still in flight: asking again would pay for the same answer twice
+            throw new UpstreamGuard.UpstreamUnavailableException("no batched answer within " + wait.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamGuard.UpstreamUnavailableException("interrupted");
+        }
+        
+        return enrichWithOpenAI(enrichment);
+    }
+    
+    /**
+     * Answers a batch of enrichment requests with one chat completion.
+     * 
+     * <p>Requests sharing a cache key (same model and activity) are asked once; the answer
+     * is cached as a template and personalised for each of them. A single request is sent
+     * as its own single-customer prompt. The profile is asked with
+     * the first name that can be anonymised; when none can, only that customer is answered.
+     * Entries missing from the answer come back as null so their callers send their own prompt.</p>
+     * 
+     * @param requests the batched requests, in submission order
+     * @return one result per request, in the same order (null where the answer is missing)
+     * @throws BatchFailedException if a multi-customer completion fails for a reason other than the guard
+     */
+    private List<MarketIntelligence> enrichBatchWithOpenAI(List<EnrichmentRequest> requests) {
+        if (requests.size() == 1) {
+            return List.of(enrichWithOpenAI(requests.get(0)));
+        }
+        
+        Map<String, List<Integer>> requestsByKey = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            requestsByKey.computeIfAbsent(cacheKey(requests.get(i)), key -> new ArrayList<>()).add(i);
+        }
+        List<EnrichmentRequest> profiles = requestsByKey.values().stream()
+                .map(indexes -> indexes.stream()
+                        .map(requests::get)
+                        .filter(candidate -> MarketIntelligenceTemplate.canAnonymise(candidate.customerName()))
+                        .findFirst()
+                        .orElse(requests.get(indexes.get(0))))
+                .toList();
+        
+        MarketIntelligence[] results = new MarketIntelligence[requests.size()];
+        try {
+            log.debug("📦 Enviando lote de {} perfis ({} clientes) para OpenAI", profiles.size(), requests.size());
+            String prompt = batchPrompt(profiles);
+            boolean sampled = TraceSampling.isSampled();
+            if (sampled) {
+                log.info("📦 Prompt do lote: {}", TraceSampling.payload(prompt));
+            }
+            ChatCompletionRequest request = ChatCompletionRequest.builder()
+                    .model(openAIConfig.getModel())
+                    .messages(List.of(new ChatMessage(ChatMessageRole.USER.value(), prompt)))
+                    .temperature(openAIConfig.getTemperature())
+                    .maxTokens(openAIConfig.getMaxTokens() * profiles.size())
+                    .functions(List.of(MarketIntelligenceJson.batchFunction()))
+                    .functionCall(ChatCompletionRequest.ChatCompletionRequestFunctionCall.of(
+                            MarketIntelligenceJson.BATCH_FUNCTION_NAME))
+                    .build();
+            ChatCompletionResult completion = openAiGuard.call(() -> openAiService.createChatCompletion(request));
+            ChatMessage message = completion.getChoices().get(0).getMessage();
+            long totalTokens = countTokens(completion);
+            if (sampled) {
+                log.info("📦 Resposta do lote ({} tokens): {}", totalTokens, TraceSampling.payload(answerText(message)));
+            }
+            
+            for (MarketIntelligenceJson.Answer answer : parseAnswers(message)) {
+                int index = answer.index() - 1;
+                if (index < 0 || index >= profiles.size()) {
+                    continue;
+                }
+                EnrichmentRequest asked = profiles.get(index);
+                MarketIntelligence intelligence = answer.toMarketIntelligence(asked.customerId(), asked.probableActivity());
+                MarketIntelligenceTemplate template = null;
+                if (MarketIntelligenceTemplate.canAnonymise(asked.customerName())) {
+                    template = MarketIntelligenceTemplate.of(
+                            cacheKey(asked), intelligence, asked.customerName(), totalTokens / profiles.size());
+                    intelligenceCache.put(template);
+                }
+                
+                for (int i : requestsByKey.get(cacheKey(asked))) {
+                    EnrichmentRequest sharing = requests.get(i);
+                    if (sharing == asked) {
+                        results[i] = intelligence;
+                    } else if (template != null) {
+                        results[i] = template.personalise(sharing.customerId(), sharing.customerName());
+                    }
+                }
+            }
+        } catch (UpstreamGuard.UpstreamUnavailableException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            batchFallbacks.increment(requests.size());
+            throw new BatchFailedException(e);
+        }
+        
+        long missing = Arrays.stream(results).filter(Objects::isNull).count();
+        if (missing > 0) {
+            log.warn("📦 Lote da OpenAI respondeu {} de {} clientes", requests.size() - missing, requests.size());
+            batchFallbacks.increment(missing);
+        }
+        return Arrays.asList(results);
+    }
+    
+    private String batchPrompt(List<EnrichmentRequest> profiles) {
+        StringBuilder prompt = new StringBuilder(
+            "Analise os perfis de clientes abaixo, cada um com sua atividade provável. " +
+            "Registre um objeto por perfil, com os seguintes campos: " +
+            "index (o número do perfil), " +
+            "businessNiche (ex: 'Confeitaria', 'Desenvolvimento de Software'), " +
+            "digitalPresenceScore (0-100), " +
+            "estimatedMaturity (ex: 'Iniciante', 'Em Expansão', 'Freelancer'), " +
+            "socialMediaPlatform (ex: 'Instagram', 'LinkedIn', null), " +
+            "socialMediaFollowers (número ou null), " +
+            "hasGoogleMapsPresence (true/false), " +
+            "recommendedApproach (texto com recomendação de abordagem para o cliente). " +
+            "Seja realista e baseado em padrões de mercado brasileiro.\n"
+        );
+        for (int i = 0; i < profiles.size(); i++) {
+            EnrichmentRequest profile = profiles.get(i);
+            prompt.append(String.format("%d. Cliente: %s; atividade provável: %s%n",
+                    i + 1, profile.customerName(), profile.probableActivity()));
+        }
+        return prompt.toString();
+    }
+    
+    /**
+     * Reads the single-profile answer of a completion.
+     * 
+     * @param message the completion message
+     * @return the complete answer
+     * @throws IllegalStateException if the answer cannot be parsed or lacks required fields
+     */
+    private MarketIntelligenceJson.Answer parseAnswer(ChatMessage message) {
+        try (JsonParser parser = answerParser(message)) {
+            MarketIntelligenceJson.Answer answer = MarketIntelligenceJson.readAnswer(parser);
+            if (!answer.isComplete()) {
+                throw new IOException("digitalPresenceScore missing");
+            }
+            return answer;
+        } catch (IOException e) {
+            parseFailures.increment();
+            throw new IllegalStateException("Unparseable OpenAI answer: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Reads the batch answers of a completion, dropping incomplete entries.
+     * 
+     * @param message the completion message
+     * @return the complete answers
+     * @throws IllegalStateException if the answer cannot be parsed at all
+     */
+    private List<MarketIntelligenceJson.Answer> parseAnswers(ChatMessage message) {
+        try (JsonParser parser = answerParser(message)) {
+            List<MarketIntelligenceJson.Answer> answers = new ArrayList<>();
+            for (MarketIntelligenceJson.Answer answer : MarketIntelligenceJson.readAnswers(parser)) {
+                if (answer.isComplete()) {
+                    answers.add(answer);
+                } else {
+                    parseFailures.increment();
+                }
+            }
+            return answers;
+        } catch (IOException e) {
+            parseFailures.increment();
+            throw new IllegalStateException("Unparseable batched OpenAI answer: " + e.getMessage(), e);
+        }
+    }
+    
+    private static JsonParser answerParser(ChatMessage message) throws IOException {
+        ChatFunctionCall functionCall = message.getFunctionCall();
+        if (functionCall != null && functionCall.getArguments() != null) {
+            JsonNode arguments = functionCall.getArguments();
+            // The SDK keeps arguments it could not read as JSON as plain text
+            return arguments.isTextual() ? JSON.createParser(arguments.asText()) : JSON.treeAsTokens(arguments);
+        }
+        
+        // Plain content answer, possibly wrapped in a Markdown code fence
+        String content = message.getContent();
+        int start = content == null ? -1 : indexOfJsonStart(content);
+        if (start < 0) {
+            throw new IOException("Answer has neither function arguments nor JSON content");
+        }
+        return JSON.createParser(content.substring(start));
+    }
+    
+    private static Object answerText(ChatMessage message) {
+        return message.getFunctionCall() != null ? message.getFunctionCall().getArguments() : message.getContent();
+    }
+    
+    private static int indexOfJsonStart(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '{' || c == '[') {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Computes the cache key (model and normalised activity) of a request.
+     */
+    private String cacheKey(EnrichmentRequest request) {
+        return openAIConfig.getModel() + "|" + request.probableActivity().trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Failure of a multi-customer completion, after which each customer sends its own prompt.
+     */
+    private static final class BatchFailedException extends RuntimeException {
+        
+        BatchFailedException(RuntimeException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
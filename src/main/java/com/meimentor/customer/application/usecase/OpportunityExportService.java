@@ -0,0 +1,38 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+import com.meimentor.customer.domain.port.OpportunityAnalysisExportPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Service responsible for exporting every stored opportunity analysis.
+ * 
+ * <p>Analyses are pushed to the caller as they are read from the database, so an
+ * export of any size runs in constant memory.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OpportunityExportService {
+    
+    private final OpportunityAnalysisExportPort exportPort;
+    
+    /**
+     * Streams every analysis, with its market intelligence, to a sink.
+     * 
+     * @param sink receives each analysis as it is read
+     * @return the number of analyses exported
+     */
+    public long exportAll(Consumer<OpportunityAnalysis> sink) {
+        long started = System.nanoTime();
+        long exported = exportPort.forEachAnalysis(sink);
+        log.info("Exported {} opportunity analyses in {} ms", exported, (System.nanoTime() - started) / 1_000_000);
+        return exported;
+    }
+}
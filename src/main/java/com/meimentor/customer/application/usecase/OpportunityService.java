@@ -1,12 +1,15 @@
 package com.meimentor.customer.application.usecase;
 
+import com.meimentor.customer.application.usecase.AnalysisStageMetrics.Stage;
+import com.meimentor.customer.domain.model.ActivityCategory;
 import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.EnrichmentStatus;
 import com.meimentor.customer.domain.model.MarketIntelligence;
 import com.meimentor.customer.domain.model.OpportunityAnalysis;
-import com.meimentor.customer.domain.model.Transaction;
+import com.meimentor.customer.domain.model.MonthlyRollupSeries;
+import com.meimentor.customer.domain.model.TransactionAccumulator;
 import com.meimentor.customer.domain.port.CustomerRepositoryPort;
 import com.meimentor.customer.domain.port.OpportunityAnalysisRepositoryPort;
-import com.meimentor.customer.domain.port.TransactionRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,10 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDateTime;
-import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Service responsible for analyzing customer opportunities for MEI formalization.
@@ -27,6 +28,15 @@ import java.util.stream.Collectors;
  * - Computes monthly loss from not being formalized
  * - Determines shadow credit limit for migration incentive</p>
  * 
+ * <p>Figures cover the trailing {@link AnalysisWindow}; revenue is normalised to one month
+ * before it is scored, so the monthly loss is computed from a monthly income.</p>
+ * 
+ * <p>Every stage (lookup, rollup load, classification, scoring, enrichment, assembly and
+ * persistence) is timed through {@link AnalysisStageMetrics}.</p>
+ * 
+ * <p>An analysis is stamped with the time its rollups were read, not the time it was
+ * finished, so transactions ingested while it was being enriched still make it stale.</p>
+ * 
  * @author MEI-Mentor Team
  */
 @Service
@@ -39,11 +49,16 @@ public class OpportunityService {
     private static final BigDecimal SHADOW_LIMIT_MULTIPLIER = new BigDecimal("3.0");
     private static final BigDecimal MEI_MAX_REVENUE = new BigDecimal("81000.00"); // R$ 81k/year
     private static final int DIGITAL_PRESENCE_BONUS = 10; // Bonus points for high digital presence
+    private static final BigDecimal REVENUE_TIER_HIGH = new BigDecimal("5000");
+    private static final BigDecimal REVENUE_TIER_MEDIUM = new BigDecimal("2000");
+    private static final BigDecimal REVENUE_TIER_LOW = new BigDecimal("1000");
+    private static final BigDecimal REVENUE_TIER_MIN = new BigDecimal("500");
     
     private final CustomerRepositoryPort customerRepository;
-    private final TransactionRepositoryPort transactionRepository;
+    private final AnalysisWindow analysisWindow;
     private final OpportunityAnalysisRepositoryPort analysisRepository;
     private final EnrichmentService enrichmentService;
+    private final AnalysisStageMetrics stageMetrics;
     
     /**
      * Analyzes opportunities for a customer identified by CPF.
@@ -52,9 +67,9 @@ public class OpportunityService {
      * @return the opportunity analysis
      * @throws IllegalArgumentException if customer not found
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public OpportunityAnalysis analyzeOpportunity(String cpf) {
-        Customer customer = customerRepository.findByCpf(cpf)
+        Customer customer = stageMetrics.time(Stage.CUSTOMER_LOOKUP, () -> customerRepository.findByCpf(cpf))
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found for CPF: " + cpf));
         
         return analyzeOpportunity(customer);
@@ -66,25 +81,115 @@ public class OpportunityService {
      * @param customer the customer to analyze
      * @return the opportunity analysis
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public OpportunityAnalysis analyzeOpportunity(Customer customer) {
-        List<Transaction> transactions = transactionRepository.findByCustomerId(customer.getId());
-        
-        BigDecimal identifiedRevenue = calculateIdentifiedRevenue(transactions);
-        Integer basePotentialScore = calculatePotentialScore(transactions, identifiedRevenue);
-        
-        // Enrich with market intelligence
-        List<String> transactionDescriptions = transactions.stream()
-                .map(Transaction::getDescription)
-                .filter(desc -> desc != null && !desc.isBlank())
-                .collect(Collectors.toList());
-        
-        String probableActivity = enrichmentService.identifyProbableActivity(transactionDescriptions);
-        MarketIntelligence marketIntelligence = enrichmentService.enrichCustomerProfile(
+        Instant readAt = Instant.now();
+        return analyzeOpportunity(customer, loadRollups(customer), readAt);
+    }
+    
+    /**
+     * Analyzes opportunities for a customer whose rollups were already loaded.
+     * 
+     * <p>Used by batch analysis, which loads the rollups of many customers at once
+     * through {@link AnalysisWindow#loadAll}.</p>
+     * 
+     * @param customer the customer to analyze
+     * @param rollups the customer monthly figures inside the analysis window
+     * @param readAt when the rollups were read (taken before reading them)
+     * @return the opportunity analysis
+     */
+    public OpportunityAnalysis analyzeOpportunity(Customer customer, MonthlyRollupSeries rollups, Instant readAt) {
+        return persist(analyzeWithoutSaving(customer, rollups, readAt));
+    }
+    
+    /**
+     * Computes the full analysis of a customer without saving it.
+     * 
+     * <p>Used by callers that stopped waiting for an analysis of the same customer already
+     * in flight, which still saves its own result.</p>
+     * 
+     * @param customer the customer to analyze
+     * @return the unsaved analysis
+     */
+    @Transactional(readOnly = true)
+    public OpportunityAnalysis analyzeWithoutSaving(Customer customer) {
+        Instant readAt = Instant.now();
+        return analyzeWithoutSaving(customer, loadRollups(customer), readAt);
+    }
+    
+    /**
+     * Computes the full analysis of a customer whose rollups were already loaded, without saving it.
+     * 
+     * @param customer the customer to analyze
+     * @param rollups the customer monthly figures inside the analysis window
+     * @param readAt when the rollups were read (taken before reading them)
+     * @return the unsaved analysis
+     */
+    public OpportunityAnalysis analyzeWithoutSaving(Customer customer, MonthlyRollupSeries rollups, Instant readAt) {
+        TransactionAccumulator summary = stageMetrics.time(Stage.SUMMARY, rollups::summarizeAll);
+        int basePotentialScore = stageMetrics.time(Stage.SCORING, () -> calculatePotentialScore(summary));
+        MarketIntelligence marketIntelligence = enrich(customer, summary);
+        return stageMetrics.time(Stage.ASSEMBLY,
+                () -> buildAnalysis(customer, summary, basePotentialScore, marketIntelligence, readAt));
+    }
+    
+    /**
+     * Computes the base figures of an analysis without waiting for market intelligence.
+     * 
+     * <p>Score, monthly loss and shadow limit come from the rollups alone; the digital
+     * presence bonus and the market-aware recommendation are left for the enriched
+     * analysis. The result is not saved.</p>
+     * 
+     * @param customer the customer to analyze
+     * @return the unsaved base analysis, with {@link EnrichmentStatus#PENDING} status
+     */
+    @Transactional(readOnly = true)
+    public OpportunityAnalysis analyzeWithoutEnrichment(Customer customer) {
+        Instant readAt = Instant.now();
+        TransactionAccumulator summary = stageMetrics.time(Stage.SUMMARY, loadRollups(customer)::summarizeAll);
+        int basePotentialScore = stageMetrics.time(Stage.SCORING, () -> calculatePotentialScore(summary));
+        OpportunityAnalysis base = buildAnalysis(customer, summary, basePotentialScore, null, readAt);
+        return base.toBuilder()
+                .enrichmentStatus(EnrichmentStatus.PENDING)
+                .build();
+    }
+    
+    /**
+     * Enriches a customer with market intelligence for the activity hinted by its transactions.
+     * 
+     * <p>Exposed separately so the portfolio re-scoring pipeline can run enrichment as its own stage.</p>
+     * 
+     * @param customer the customer to enrich
+     * @param summary the accumulated transaction figures
+     * @return the market intelligence
+     */
+    MarketIntelligence enrich(Customer customer, TransactionAccumulator summary) {
+        ActivityCategory activity = summary.getProbableActivity();
+        return stageMetrics.time(Stage.ENRICHMENT, () -> enrichmentService.enrichCustomerProfile(
                 customer.getName(),
-                probableActivity,
+                activity,
                 customer.getId()
-        );
+        ));
+    }
+    
+    /**
+     * Builds the final analysis from the scored figures and market intelligence, without saving it.
+     * 
+     * @param customer the analyzed customer
+     * @param summary the accumulated transaction figures
+     * @param basePotentialScore the potential score before the digital presence bonus
+     * @param marketIntelligence the market intelligence data (may be null)
+     * @param readAt when the figures were read, recorded as the analysis time
+     * @return the unsaved opportunity analysis
+     */
+    OpportunityAnalysis buildAnalysis(
+            Customer customer,
+            TransactionAccumulator summary,
+            int basePotentialScore,
+            MarketIntelligence marketIntelligence,
+            Instant readAt
+    ) {
+        BigDecimal identifiedRevenue = monthlyRevenue(summary);
         
         // Apply bonus for high digital presence
         Integer finalPotentialScore = applyDigitalPresenceBonus(basePotentialScore, marketIntelligence);
@@ -93,7 +198,7 @@ public class OpportunityService {
         BigDecimal shadowLimit = calculateShadowLimit(identifiedRevenue, finalPotentialScore);
         String recommendation = generateRecommendation(identifiedRevenue, finalPotentialScore, monthlyLoss, marketIntelligence);
         
-        OpportunityAnalysis analysis = OpportunityAnalysis.builder()
+        return OpportunityAnalysis.builder()
                 .id(UUID.randomUUID())
                 .customerId(customer.getId())
                 .potentialScore(finalPotentialScore)
@@ -102,9 +207,32 @@ public class OpportunityService {
                 .identifiedRevenue(identifiedRevenue)
                 .recommendation(recommendation)
                 .marketIntelligence(marketIntelligence)
+                .analyzedAt(readAt)
                 .build();
-        
-        return analysisRepository.save(analysis);
+    }
+    
+    /**
+     * Saves an analysis, replacing the customer's previous one.
+     * 
+     * @param analysis the analysis to save
+     * @return the saved analysis
+     */
+    OpportunityAnalysis persist(OpportunityAnalysis analysis) {
+        return stageMetrics.time(Stage.PERSISTENCE, () -> analysisRepository.save(analysis));
+    }
+    
+    private MonthlyRollupSeries loadRollups(Customer customer) {
+        return stageMetrics.time(Stage.TRANSACTION_LOAD, () -> analysisWindow.load(customer.getId()));
+    }
+    
+    /**
+     * Gets the identified revenue of the analysis window as a monthly figure.
+     * 
+     * @param summary the accumulated transaction figures of the window
+     * @return monthly identified revenue
+     */
+    private BigDecimal monthlyRevenue(TransactionAccumulator summary) {
+        return analysisWindow.toMonthly(summary.getIdentifiedRevenue(), summary.getFirstTransactionDate());
     }
     
     /**
@@ -120,60 +248,40 @@ public class OpportunityService {
         }
         
         int bonusScore = baseScore + DIGITAL_PRESENCE_BONUS;
-        log.info("Applying digital presence bonus: {} + {} = {}", baseScore, DIGITAL_PRESENCE_BONUS, bonusScore);
+        log.debug("Applying digital presence bonus: {} + {} = {}", baseScore, DIGITAL_PRESENCE_BONUS, bonusScore);
         
         return Math.min(100, bonusScore);
     }
     
-    /**
-     * Calculates the identified commercial revenue from transactions.
-     * 
-     * <p>Sums all credit transactions that match commercial patterns.</p>
-     * 
-     * @param transactions the customer transactions
-     * @return total identified revenue
-     */
-    private BigDecimal calculateIdentifiedRevenue(List<Transaction> transactions) {
-        return transactions.stream()
-                .filter(Transaction::isCredit)
-                .filter(Transaction::isCommercialPattern)
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .setScale(2, RoundingMode.HALF_UP);
-    }
-    
     /**
      * Calculates the potential score (0-100) based on transaction patterns.
      * 
      * <p>Score factors:
-     * - Commercial transaction frequency (40%)
-     * - Revenue amount (40%)
+     * - Commercial transaction frequency within the window (40%)
+     * - Monthly revenue amount (40%)
      * - Transaction consistency (20%)</p>
      * 
-     * @param transactions the customer transactions
-     * @param identifiedRevenue the identified revenue
+     * @param summary the accumulated transaction figures
      * @return potential score (0-100)
      */
-    private Integer calculatePotentialScore(List<Transaction> transactions, BigDecimal identifiedRevenue) {
-        long commercialCredits = transactions.stream()
-                .filter(Transaction::isCredit)
-                .filter(Transaction::isCommercialPattern)
-                .count();
+    int calculatePotentialScore(TransactionAccumulator summary) {
+        long commercialCredits = summary.getCommercialCreditCount();
+        BigDecimal identifiedRevenue = monthlyRevenue(summary);
         
-        int frequencyScore = Math.min(40, (int) (commercialCredits * 2)); // Max 40 points
+        int frequencyScore = (int) Math.min(40, commercialCredits * 2); // Max 40 points
         
         int revenueScore = 0;
-        if (identifiedRevenue.compareTo(new BigDecimal("5000")) >= 0) {
+        if (identifiedRevenue.compareTo(REVENUE_TIER_HIGH) >= 0) {
             revenueScore = 40;
-        } else if (identifiedRevenue.compareTo(new BigDecimal("2000")) >= 0) {
+        } else if (identifiedRevenue.compareTo(REVENUE_TIER_MEDIUM) >= 0) {
             revenueScore = 30;
-        } else if (identifiedRevenue.compareTo(new BigDecimal("1000")) >= 0) {
+        } else if (identifiedRevenue.compareTo(REVENUE_TIER_LOW) >= 0) {
             revenueScore = 20;
-        } else if (identifiedRevenue.compareTo(new BigDecimal("500")) >= 0) {
+        } else if (identifiedRevenue.compareTo(REVENUE_TIER_MIN) >= 0) {
             revenueScore = 10;
         }
         
-        int consistencyScore = calculateConsistencyScore(transactions);
+        int consistencyScore = calculateConsistencyScore(commercialCredits);
         
         return Math.min(100, frequencyScore + revenueScore + consistencyScore);
     }
@@ -181,15 +289,10 @@ public class OpportunityService {
     /**
      * Calculates consistency score based on transaction frequency.
      * 
-     * @param transactions the customer transactions
+     * @param commercialCredits the number of commercial credit transactions
      * @return consistency score (0-20)
      */
-    private int calculateConsistencyScore(List<Transaction> transactions) {
-        long commercialCredits = transactions.stream()
-                .filter(Transaction::isCredit)
-                .filter(Transaction::isCommercialPattern)
-                .count();
-        
+    private int calculateConsistencyScore(long commercialCredits) {
         if (commercialCredits >= 10) {
             return 20;
         } else if (commercialCredits >= 5) {
@@ -0,0 +1,175 @@
+package com.meimentor.customer.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * One stage of a staged (SEDA) pipeline: a bounded input queue drained by a fixed number of workers.
+ * 
+ * <p>Producers block on {@link #put(Object)} while the queue is full, which propagates
+ * back-pressure upstream. {@link #close()} is called once every producer is done; when the
+ * last worker drains the queue the stage runs its {@code onDrained} callback, typically
+ * closing the next stage.</p>
+ * 
+ * @param <T> the type of the items handled by this stage
+ * @author MEI-Mentor Team
+ */
+@Slf4j
+final class PipelineStage<T> {
+    
+    private static final Object END = new Object();
+    
+    private final String name;
+    private final int workers;
+    private final BlockingQueue<Object> queue;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    
+    PipelineStage(String name, int workers, int capacity) {
+        if (workers < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Stage " + name + " needs at least one worker and one queue slot");
+        }
+        this.name = name;
+        this.workers = workers;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+    
+    /**
+     * Work performed by the stage on each item.
+     * 
+     * @param <T> the item type
+     */
+    @FunctionalInterface
+    interface Task<T> {
+        void process(T item) throws Exception;
+    }
+    
+    /**
+     * Starts the stage workers.
+     * 
+     * @param executor the executor running the workers
+     * @param task the work performed on each item; it hands the item to the next stage itself
+     * @param onFailure invoked with the item and the error when the task throws
+     * @param onDrained invoked once, after the stage is closed and every item has been handled
+     */
+    void start(ExecutorService executor, Task<T> task, BiConsumer<T, Exception> onFailure, Runnable onDrained) {
+        activeWorkers.set(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(() -> runWorker(task, onFailure, onDrained));
+        }
+    }
+    
+    /**
+     * Enqueues an item, blocking while the queue is full.
+     * 
+     * @param item the item
+     * @throws InterruptedException if interrupted while waiting for space
+     */
+    void put(T item) throws InterruptedException {
+        queue.put(item);
+    }
+    
+    /**
+     * Signals that no more items will be enqueued.
+     */
+    void close() {
+        try {
+            for (int i = 0; i < workers; i++) {
+                queue.put(END);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Waits until the stage has drained.
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void awaitDrained() throws InterruptedException {
+        drained.await();
+    }
+    
+    String getName() {
+        return name;
+    }
+    
+    int getWorkers() {
+        return workers;
+    }
+    
+    int getQueueDepth() {
+        // END markers are not work
+        return queue.size() - countEndMarkers();
+    }
+    
+    int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+    
+    long getProcessed() {
+        return processed.sum();
+    }
+    
+    long getFailed() {
+        return failed.sum();
+    }
+    
+    boolean isDrained() {
+        return drained.getCount() == 0;
+    }
+    
+    private int countEndMarkers() {
+        int markers = 0;
+        for (Object item : queue) {
+            if (item == END) {
+                markers++;
+            }
+        }
+        return markers;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void runWorker(Task<T> task, BiConsumer<T, Exception> onFailure, Runnable onDrained) {
+        try {
+            while (true) {
+                Object next = queue.take();
+                if (next == END) {
+                    return;
+                }
+                T item = (T) next;
+                try {
+                    task.process(item);
+                    processed.increment();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    failed.increment();
+                    onFailure.accept(item, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (activeWorkers.decrementAndGet() == 0) {
+                log.debug("Stage {} drained: {} processed, {} failed", name, processed.sum(), failed.sum());
+                try {
+                    onDrained.run();
+                } finally {
+                    drained.countDown();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.MarketIntelligence;
+import com.meimentor.customer.domain.model.MonthlyRollup;
+import com.meimentor.customer.domain.model.MonthlyRollupSeries;
+import com.meimentor.customer.domain.model.RescoringCheckpoint;
+import com.meimentor.customer.domain.model.TransactionAccumulator;
+import com.meimentor.customer.domain.port.CustomerRepositoryPort;
+import com.meimentor.customer.domain.port.RescoringCheckpointRepositoryPort;
+import com.meimentor.customer.infrastructure.config.RescoringConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service responsible for re-scoring the whole customer portfolio after a scoring-rule change.
+ * 
+ * <p>The analysis of {@link OpportunityService} is split into pipelined stages, each with
+ * a bounded queue and its own worker count:
+ * - load: pages customers by id range (keyset) and batch-loads their monthly figures
+ *   inside the {@link AnalysisWindow}
+ * - classify: folds the rollups (classified at ingestion) into the scoring figures
+ * - score: computes the base potential score
+ * - enrich: fetches market intelligence (usually the slowest, I/O-bound stage)
+ * - persist: builds and saves the final analysis</p>
+ * 
+ * <p>The id space is split into partitions. Each partition checkpoints the highest
+ * customer id below which every customer has been persisted, so a job interrupted by a
+ * crash resumes from its checkpoints instead of starting over. A customer that fails in
+ * any stage holds its partition's checkpoint before its page and fails the job, so
+ * resuming retries it. Only one job runs at a time.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioRescoringService {
+    
+    private static final BigInteger UUID_HIGH_SPACE = BigInteger.ONE.shiftLeft(64);
+    
+    private final CustomerRepositoryPort customerRepository;
+    private final AnalysisWindow analysisWindow;
+    private final RescoringCheckpointRepositoryPort checkpointRepository;
+    private final OpportunityService opportunityService;
+    private final RescoringConfig config;
+    
+    private final AtomicReference<Job> currentJob = new AtomicReference<>();
+    
+    /**
+     * Starts a new job re-scoring every customer.
+     * 
+     * @return the status of the started job
+     * @throws IllegalStateException if a job is already running
+     */
+    public synchronized JobStatus start() {
+        ensureIdle();
+        
+        UUID jobId = UUID.randomUUID();
+        List<RescoringCheckpoint> checkpoints = new ArrayList<>(config.getPartitions());
+        for (int partition = 0; partition < config.getPartitions(); partition++) {
+            checkpoints.add(checkpointRepository.save(RescoringCheckpoint.builder()
+                    .jobId(jobId)
+                    .partition(partition)
+                    .rangeStart(rangeStart(partition, config.getPartitions()))
+                    .rangeEnd(rangeEnd(partition, config.getPartitions()))
+                    .updatedAt(Instant.now())
+                    .build()));
+        }
+        
+        log.info("Starting rescoring job {} over {} partitions", jobId, checkpoints.size());
+        return launch(jobId, checkpoints);
+    }
+    
+    /**
+     * Resumes an interrupted job from its checkpoints.
+     * 
+     * @param jobId the job ID
+     * @return the status of the resumed job
+     * @throws IllegalArgumentException if the job is unknown
+     * @throws IllegalStateException if a job is already running
+     */
+    public synchronized JobStatus resume(UUID jobId) {
+        ensureIdle();
+        
+        List<RescoringCheckpoint> checkpoints = checkpointRepository.findByJobId(jobId);
+        if (checkpoints.isEmpty()) {
+            throw new IllegalArgumentException("Rescoring job not found: " + jobId);
+        }
+        
+        long remaining = checkpoints.stream().filter(checkpoint -> !checkpoint.isCompleted()).count();
+        log.info("Resuming rescoring job {}: {} of {} partitions remaining", jobId, remaining, checkpoints.size());
+        return launch(jobId, checkpoints);
+    }
+    
+    /**
+     * Resumes the most recent job that did not complete.
+     * 
+     * @return the status of the resumed job
+     * @throws IllegalArgumentException if no incomplete job exists
+     * @throws IllegalStateException if a job is already running
+     */
+    public synchronized JobStatus resumeLatest() {
+        UUID jobId = checkpointRepository.findLatestIncompleteJobId()
+                .orElseThrow(() -> new IllegalArgumentException("No incomplete rescoring job to resume"));
+        return resume(jobId);
+    }
+    
+    /**
+     * Gets the live status of the current (or last) job of this instance.
+     * 
+     * @return Optional containing the job status, empty if no job ran since startup
+     */
+    public Optional<JobStatus> currentStatus() {
+        return Optional.ofNullable(currentJob.get()).map(Job::status);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        Job job = currentJob.get();
+        if (job != null) {
+            job.executor.shutdownNow();
+        }
+    }
+    
+    private void ensureIdle() {
+        Job running = currentJob.get();
+        if (running != null && running.state == State.RUNNING) {
+            throw new IllegalStateException("Rescoring job " + running.id + " is already running");
+        }
+    }
+    
+    private JobStatus launch(UUID jobId, List<RescoringCheckpoint> checkpoints) {
+        Job job = new Job(jobId, checkpoints);
+        currentJob.set(job);
+        job.run();
+        return job.status();
+    }
+    
+    /**
+     * Computes the first id of a partition; partitions split the most significant
+     * 64 bits of the id space evenly, in the unsigned order databases sort UUIDs by.
+     */
+    private static UUID rangeStart(int partition, int partitions) {
+        long high = UUID_HIGH_SPACE.multiply(BigInteger.valueOf(partition))
+                .divide(BigInteger.valueOf(partitions))
+                .longValue();
+        return new UUID(high, 0L);
+    }
+    
+    /**
+     * Computes the last id of a partition (inclusive).
+     */
+    private static UUID rangeEnd(int partition, int partitions) {
+        long high = UUID_HIGH_SPACE.multiply(BigInteger.valueOf(partition + 1))
+                .divide(BigInteger.valueOf(partitions))
+                .subtract(BigInteger.ONE)
+                .longValue();
+        return new UUID(high, -1L);
+    }
+    
+    /**
+     * Lifecycle state of a job.
+     */
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+    
+    /**
+     * Live status of a job.
+     * 
+     * @param jobId the job ID
+     * @param state the job state
+     * @param startedAt when this run started
+     * @param finishedAt when this run finished (null while running)
+     * @param partitions the number of partitions
+     * @param partitionsCompleted the number of fully processed partitions
+     * @param customersProcessed customers persisted by this run
+     * @param customersFailed customers that failed in any stage of this run
+     * @param stages per-stage statistics, in pipeline order
+     */
+    public record JobStatus(
+            UUID jobId,
+            State state,
+            Instant startedAt,
+            Instant finishedAt,
+            int partitions,
+            int partitionsCompleted,
+            long customersProcessed,
+            long customersFailed,
+            List<StageStatus> stages
+    ) {
+    }
+    
+    /**
+     * Live statistics of one pipeline stage.
+     * 
+     * @param name the stage name
+     * @param workers the number of workers
+     * @param queueDepth items waiting in the stage queue
+     * @param queueCapacity the stage queue capacity
+     * @param processed items handled successfully
+     * @param failed items that failed in this stage
+     * @param throughputPerSecond items handled per second since the job started
+     */
+    public record StageStatus(
+            String name,
+            int workers,
+            int queueDepth,
+            int queueCapacity,
+            long processed,
+            long failed,
+            double throughputPerSecond
+    ) {
+    }
+    
+    /**
+     * One run of a job: its stages, executor and partition progress.
+     */
+    private final class Job {
+        
+        private final UUID id;
+        private final Instant startedAt = Instant.now();
+        private final List<PartitionProgress> partitions = new ArrayList<>();
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        private final LongAdder failedCustomers = new LongAdder();
+        
+        private final PipelineStage<PartitionProgress> load;
+        private final PipelineStage<RescoringItem> classify;
+        private final PipelineStage<RescoringItem> score;
+        private final PipelineStage<RescoringItem> enrich;
+        private final PipelineStage<RescoringItem> persist;
+        
+        private volatile State state = State.RUNNING;
+        private volatile Instant finishedAt;
+        
+        Job(UUID id, List<RescoringCheckpoint> checkpoints) {
+            this.id = id;
+            for (RescoringCheckpoint checkpoint : checkpoints) {
+                partitions.add(new PartitionProgress(checkpoint));
+            }
+            
+            int capacity = config.getQueueCapacity();
+            this.load = new PipelineStage<>("load", config.getLoadParallelism(), Math.max(1, partitions.size()));
+            this.classify = new PipelineStage<>("classify", config.getClassifyParallelism(), capacity);
+            this.score = new PipelineStage<>("score", config.getScoreParallelism(), capacity);
+            this.enrich = new PipelineStage<>("enrich", config.getEnrichParallelism(), capacity);
+            this.persist = new PipelineStage<>("persist", config.getPersistParallelism(), capacity);
+        }
+        
+        void run() {
+            load.start(executor, this::loadPartition,
+                    (partition, e) -> log.error("Rescoring job {} failed to load partition {}: {}",
+                            id, partition.checkpoint.getPartition(), e.getMessage(), e),
+                    classify::close);
+            classify.start(executor, item -> {
+                item.summary = item.rollups.summarizeAll();
+                score.put(item);
+            }, this::itemFailed, score::close);
+            score.start(executor, item -> {
+                item.basePotentialScore = opportunityService.calculatePotentialScore(item.summary);
+                enrich.put(item);
+            }, this::itemFailed, enrich::close);
+            enrich.start(executor, item -> {
+                item.marketIntelligence = opportunityService.enrich(item.customer, item.summary);
+                persist.put(item);
+            }, this::itemFailed, persist::close);
+            persist.start(executor, item -> {
+                opportunityService.persist(opportunityService.buildAnalysis(
+                        item.customer, item.summary, item.basePotentialScore, item.marketIntelligence, item.readAt));
+                item.page.itemDone();
+            }, this::itemFailed, () -> { });
+            
+            executor.execute(this::coordinate);
+        }
+        
+        private void coordinate() {
+            try {
+                for (PartitionProgress partition : partitions) {
+                    if (!partition.checkpoint.isCompleted()) {
+                        load.put(partition);
+                    }
+                }
+                load.close();
+                persist.awaitDrained();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finishedAt = Instant.now();
+                boolean completed = partitions.stream().allMatch(partition -> partition.checkpoint.isCompleted());
+                state = completed && failedCustomers.sum() == 0 ? State.COMPLETED : State.FAILED;
+                log.info("Rescoring job {} {}: {} customers persisted, {} failed in {}",
+                        id, state, persist.getProcessed(), failedCustomers.sum(),
+                        Duration.between(startedAt, finishedAt));
+                executor.shutdown();
+            }
+        }
+        
+        private void loadPartition(PartitionProgress partition) throws InterruptedException {
+            RescoringCheckpoint checkpoint = partition.checkpoint;
+            UUID afterId = checkpoint.getLastCustomerId();
+            while (true) {
+                List<Customer> customers = customerRepository.findPageInIdRange(
+                        checkpoint.getRangeStart(), checkpoint.getRangeEnd(), afterId, config.getPageSize());
+                if (customers.isEmpty()) {
+                    break;
+                }
+                
+                List<UUID> customerIds = customers.stream().map(Customer::getId).toList();
+                Instant readAt = Instant.now();
+                Map<UUID, List<MonthlyRollup>> rollupsByCustomer = analysisWindow.loadAll(customerIds);
+                
+                afterId = customerIds.get(customerIds.size() - 1);
+                Page page = partition.openPage(afterId, customers.size());
+                for (Customer customer : customers) {
+                    MonthlyRollupSeries rollups = MonthlyRollupSeries.of(
+                            rollupsByCustomer.getOrDefault(customer.getId(), Collections.emptyList()));
+                    classify.put(new RescoringItem(customer, rollups, readAt, page));
+                }
+                
+                if (customers.size() < config.getPageSize()) {
+                    break;
+                }
+            }
+            partition.markScanned();
+        }
+        
+        private void itemFailed(RescoringItem item, Exception e) {
+            failedCustomers.increment();
+            log.warn("Rescoring job {} failed for customer {}: {}", id, item.customer.getId(), e.getMessage());
+            item.page.itemFailed();
+        }
+        
+        JobStatus status() {
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            double seconds = Math.max(0.001, Duration.between(startedAt, end).toNanos() / 1e9);
+            List<StageStatus> stages = new ArrayList<>();
+            for (PipelineStage<?> stage : List.of(load, classify, score, enrich, persist)) {
+                stages.add(new StageStatus(
+                        stage.getName(),
+                        stage.getWorkers(),
+                        stage.getQueueDepth(),
+                        stage.getQueueCapacity(),
+                        stage.getProcessed(),
+                        stage.getFailed(),
+                        stage.getProcessed() / seconds
+                ));
+            }
+            int completed = (int) partitions.stream().filter(partition -> partition.checkpoint.isCompleted()).count();
+            return new JobStatus(id, state, startedAt, finishedAt, partitions.size(), completed,
+                    persist.getProcessed(), failedCustomers.sum(), stages);
+        }
+    }
+    
+    /**
+     * Checkpoint bookkeeping of one partition.
+     * 
+     * <p>Pages complete out of order because stages run concurrently; the checkpoint only
+     * advances over the leading run of completed pages, so it never skips a customer. A page
+     * with a failed customer is never passed: the partition stays incomplete and a resumed
+     * job starts again right before it.</p>
+     */
+    private final class PartitionProgress {
+        
+        private final Deque<Page> openPages = new ArrayDeque<>();
+        private volatile RescoringCheckpoint checkpoint;
+        private boolean scanned;
+        
+        PartitionProgress(RescoringCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+        
+        synchronized Page openPage(UUID lastCustomerId, int size) {
+            Page page = new Page(this, lastCustomerId, size);
+            openPages.addLast(page);
+            return page;
+        }
+        
+        synchronized void pageCompleted() {
+            UUID watermark = null;
+            long handled = 0;
+            while (!openPages.isEmpty() && openPages.peekFirst().isDone() && !openPages.peekFirst().hasFailures()) {
+                Page page = openPages.pollFirst();
+                watermark = page.lastCustomerId;
+                handled += page.size;
+            }
+            if (watermark != null) {
+                saveCheckpoint(checkpoint.advance(watermark, handled, scanned && openPages.isEmpty()));
+            }
+        }
+        
+        synchronized void markScanned() {
+            scanned = true;
+            if (openPages.isEmpty()) {
+                saveCheckpoint(checkpoint.advance(null, 0, true));
+            }
+        }
+        
+        private void saveCheckpoint(RescoringCheckpoint advanced) {
+            checkpoint = advanced;
+            try {
+                checkpointRepository.save(advanced);
+            } catch (RuntimeException e) {
+                // The next page completion writes a later watermark anyway
+                log.error("Failed to save rescoring checkpoint for job {} partition {}: {}",
+                        advanced.getJobId(), advanced.getPartition(), e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * A page of customers loaded together; completes when all of its customers have gone through the pipeline.
+     */
+    private static final class Page {
+        
+        private final PartitionProgress partition;
+        private final UUID lastCustomerId;
+        private final int size;
+        private final AtomicInteger remaining;
+        private volatile boolean failed;
+        
+        Page(PartitionProgress partition, UUID lastCustomerId, int size) {
+            this.partition = partition;
+            this.lastCustomerId = lastCustomerId;
+            this.size = size;
+            this.remaining = new AtomicInteger(size);
+        }
+        
+        void itemDone() {
+            if (remaining.decrementAndGet() == 0) {
+                partition.pageCompleted();
+            }
+        }
+        
+        void itemFailed() {
+            failed = true;
+            itemDone();
+        }
+        
+        boolean isDone() {
+            return remaining.get() == 0;
+        }
+        
+        boolean hasFailures() {
+            return failed;
+        }
+    }
+    
+    /**
+     * A customer travelling through the pipeline; each stage fills in its own result.
+     */
+    private static final class RescoringItem {
+        
+        private final Customer customer;
+        private final MonthlyRollupSeries rollups;
+        private final Instant readAt;
+        private final Page page;
+        private TransactionAccumulator summary;
+        private int basePotentialScore;
+        private MarketIntelligence marketIntelligence;
+        
+        RescoringItem(Customer customer, MonthlyRollupSeries rollups, Instant readAt, Page page) {
+            this.customer = customer;
+            this.rollups = rollups;
+            this.readAt = readAt;
+            this.page = page;
+        }
+    }
+}
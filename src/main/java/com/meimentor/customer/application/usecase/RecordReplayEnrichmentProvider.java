@@ -0,0 +1,200 @@
+package com.meimentor.customer.application.usecase;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meimentor.customer.domain.model.MarketIntelligence;
+import com.meimentor.customer.domain.model.MarketIntelligenceTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enrichment provider answering from market intelligence recorded in an NDJSON file.
+ * 
+ * <p>In {@code replay} mode (the default) only recorded answers are served and nothing
+ * leaves the process, which makes load tests reproducible offline; an activity without a
+ * recording fails, so the mock fallback answers it. In {@code record} mode a missing
+ * activity is asked to {@link OpenAiEnrichmentProvider} once and its answer is appended to
+ * the file ({@code enrichment.replay.file}).</p>
+ * 
+ * <p>Recordings are keyed by the normalised activity only, so they can be replayed under
+ * any model. Customer-specific text is stored as {@link MarketIntelligenceTemplate}
+ * placeholders. Lookups are reported as {@code enrichment.replay.lookups{result}}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+@Slf4j
+public class RecordReplayEnrichmentProvider implements EnrichmentProvider {
+    
+    public static final String NAME = "replay";
+    
+    /**
+     * Whether unrecorded activities are asked upstream and recorded.
+     */
+    public enum Mode {
+        REPLAY,
+        RECORD
+    }
+    
+    private final ObjectMapper objectMapper;
+    private final OpenAiEnrichmentProvider upstream;
+    private final Path file;
+    private final Mode mode;
+    private final Map<String, MarketIntelligenceTemplate> recordings = new ConcurrentHashMap<>();
+    
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter recorded;
+    
+    public RecordReplayEnrichmentProvider(
+            ObjectMapper objectMapper,
+            OpenAiEnrichmentProvider upstream,
+            MeterRegistry meterRegistry,
+            @Value("${enrichment.replay.file:data/enrichment-recordings.ndjson}") Path file,
+            @Value("${enrichment.replay.mode:replay}") String mode
+    ) {
+        this.objectMapper = objectMapper;
+        this.upstream = upstream;
+        this.file = file;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        
+        this.hits = Counter.builder("enrichment.replay.lookups").tag("result", "hit")
+                .description("Recorded enrichment lookups").register(meterRegistry);
+        this.misses = Counter.builder("enrichment.replay.lookups").tag("result", "miss")
+                .description("Recorded enrichment lookups").register(meterRegistry);
+        this.recorded = Counter.builder("enrichment.replay.recorded")
+                .description("Enrichment answers appended to the recording file").register(meterRegistry);
+    }
+    
+    /**
+     * Loads the recordings written by previous runs; later lines win for the same activity.
+     */
+    @PostConstruct
+    void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (MappingIterator<Recording> lines = objectMapper.readerFor(Recording.class).readValues(file.toFile())) {
+            while (lines.hasNext()) {
+                MarketIntelligenceTemplate template = lines.next().toDomain();
+                recordings.put(template.getKey(), template);
+            }
+            log.info("Loaded {} enrichment recordings from {}", recordings.size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable enrichment recordings {}: {}", file, e.getMessage());
+        }
+    }
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+    
+    @Override
+    public boolean isAvailable() {
+        return mode == Mode.REPLAY || upstream.isAvailable();
+    }
+    
+    /**
+     * Serves the recorded answer of the activity, recording it first in {@code record} mode.
+     * 
+     * @param request the customer and its probable activity
+     * @return the personalised recorded answer
+     * @throws IllegalStateException if the activity has no recording in {@code replay} mode
+     */
+    @Override
+    public MarketIntelligence enrich(EnrichmentRequest request) {
+        String key = request.probableActivity().trim().toLowerCase(Locale.ROOT);
+        MarketIntelligenceTemplate template = recordings.get(key);
+        if (template != null) {
+            hits.increment();
+            return template.personalise(request.customerId(), request.customerName());
+        }
+        
+        misses.increment();
+        if (mode == Mode.REPLAY) {
+            throw new IllegalStateException("No recorded enrichment for activity: " + request.probableActivity());
+        }
+        
+        MarketIntelligence result = upstream.enrich(request);
+        if (!MarketIntelligenceTemplate.canAnonymise(request.customerName())) {
+            // Recording would leak the name into answers replayed for other customers
+            return result;
+        }
+        MarketIntelligenceTemplate answer = MarketIntelligenceTemplate.of(key, result, request.customerName(), 0);
+        if (recordings.putIfAbsent(key, answer) == null) {
+            append(answer);
+        }
+        return result;
+    }
+    
+    private synchronized void append(MarketIntelligenceTemplate template) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(objectMapper.writeValueAsString(Recording.fromDomain(template)));
+                writer.write('\n');
+            }
+            recorded.increment();
+        } catch (IOException e) {
+            log.warn("Failed to record enrichment to {}: {}", file, e.getMessage());
+        }
+    }
+    
+    /**
+     * On-disk form of a recording, one JSON object per line.
+     */
+    private record Recording(
+            String activity,
+            String businessNiche,
+            Integer digitalPresenceScore,
+            String estimatedMaturity,
+            String recommendedApproach,
+            String socialMediaPlatform,
+            Integer socialMediaFollowers,
+            Boolean hasGoogleMapsPresence
+    ) {
+        
+        static Recording fromDomain(MarketIntelligenceTemplate template) {
+            return new Recording(
+                    template.getKey(),
+                    template.getBusinessNiche(),
+                    template.getDigitalPresenceScore(),
+                    template.getEstimatedMaturity(),
+                    template.getRecommendedApproach(),
+                    template.getSocialMediaPlatform(),
+                    template.getSocialMediaFollowers(),
+                    template.getHasGoogleMapsPresence()
+            );
+        }
+        
+        MarketIntelligenceTemplate toDomain() {
+            return MarketIntelligenceTemplate.builder()
+                    .key(activity.trim().toLowerCase(Locale.ROOT))
+                    .businessNiche(businessNiche)
+                    .digitalPresenceScore(digitalPresenceScore)
+                    .estimatedMaturity(estimatedMaturity)
+                    .recommendedApproach(recommendedApproach)
+                    .socialMediaPlatform(socialMediaPlatform)
+                    .socialMediaFollowers(socialMediaFollowers)
+                    .hasGoogleMapsPresence(hasGoogleMapsPresence)
+                    .build();
+        }
+    }
+}
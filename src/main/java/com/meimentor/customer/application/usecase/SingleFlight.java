@@ -0,0 +1,110 @@
+package com.meimentor.customer.application.usecase;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions of the same keyed work into one.
+ * 
+ * <p>The first caller for a key runs the work; callers arriving while it is in flight
+ * wait for it and receive the same result, or the same exception. Once the work
+ * completes the key is released, so later calls run it again.</p>
+ * 
+ * <p>Joiners wait no longer than their own {@link LatencyBudget}: when it runs out they
+ * take their fallback instead, and the shared work carries on for the others.</p>
+ * 
+ * @param <K> the key type
+ * @param <V> the result type
+ * @author MEI-Mentor Team
+ */
+final class SingleFlight<K, V> {
+    
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Runnable onSuppressed;
+    private final Runnable onAbandoned;
+    
+    /**
+     * Creates a single-flight group.
+     * 
+     * @param onSuppressed invoked each time a caller joins work already in flight
+     * @param onAbandoned invoked each time a joiner's budget runs out before the work completes
+     */
+    SingleFlight(Runnable onSuppressed, Runnable onAbandoned) {
+        this.onSuppressed = onSuppressed;
+        this.onAbandoned = onAbandoned;
+    }
+    
+    /**
+     * Runs the work for a key, or joins the execution already in flight for it.
+     * 
+     * @param key the key
+     * @param work the work to run
+     * @param fallback run instead by a joiner whose latency budget runs out while waiting
+     * @return the work result, or the fallback result
+     */
+    V execute(K key, Supplier<V> work, Supplier<V> fallback) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            onSuppressed.run();
+            try {
+                return await(existing, LatencyBudget.remaining());
+            } catch (TimeoutException e) {
+                onAbandoned.run();
+                return fallback.get();
+            }
+        }
+        
+        try {
+            V result = work.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    /**
+     * Gets the number of keys with work in flight.
+     * 
+     * @return in-flight count
+     */
+    int inFlight() {
+        return inFlight.size();
+    }
+    
+    /**
+     * Waits for in-flight work, at most for the given time.
+     * 
+     * @throws TimeoutException if the time ran out first (the work is not cancelled)
+     */
+    private static <V> V await(CompletableFuture<V> flight, Optional<Duration> maxWait) throws TimeoutException {
+        try {
+            if (maxWait.isEmpty()) {
+                return flight.join();
+            }
+            return flight.get(Math.max(0, maxWait.get().toMillis()), TimeUnit.MILLISECONDS);
+        } catch (CompletionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight work", e);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.Transaction;
+import com.meimentor.customer.domain.port.CustomerRepositoryPort;
+import com.meimentor.customer.infrastructure.config.StatementImportConfig;
+import com.meimentor.customer.infrastructure.statement.StatementChunk;
+import com.meimentor.customer.infrastructure.statement.StatementFile;
+import com.meimentor.customer.infrastructure.statement.StatementFormat;
+import com.meimentor.customer.infrastructure.statement.StatementReader;
+import com.meimentor.customer.infrastructure.statement.StatementRecord;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service responsible for importing bank statement files (CSV or OFX) in bulk.
+ * 
+ * <p>The file is memory-mapped chunk by chunk ({@link StatementFile}) and
+ * {@code import.parallelism} chunks are parsed concurrently, all feeding one
+ * {@link TransactionIngestionService.Session}, so rows still reach the database through the
+ * per-customer JDBC batch writers. CPFs are resolved through a {@link CpfIndex} loaded once
+ * per import; rows of unknown customers are skipped before any other field is decoded, and
+ * malformed rows are counted and skipped instead of failing the whole file.</p>
+ * 
+ * <p>The restart offset is the end of the leading run of chunks whose rows are all
+ * committed: importing again from it neither skips nor repeats a row. A chunk with a failed
+ * batch stops the restart offset there, and its committed rows would be written again by a
+ * restart. Only one import runs at a time.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatementImportService {
+    
+    private final CustomerRepositoryPort customerRepository;
+    private final TransactionIngestionService ingestionService;
+    private final StatementImportConfig config;
+    
+    private final AtomicReference<Job> currentJob = new AtomicReference<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    
+    /**
+     * Starts importing a statement file in the background.
+     * 
+     * @param file the file name, relative to {@code import.directory}
+     * @param format CSV or OFX; blank to tell by the file extension
+     * @param fromOffset 0, or the restart offset of an earlier import of the same file
+     * @return the status of the started import
+     * @throws IllegalArgumentException if the file or format is invalid
+     * @throws IllegalStateException if an import is already running
+     */
+    public synchronized ImportStatus start(String file, String format, long fromOffset) {
+        Job running = currentJob.get();
+        if (running != null && running.state == State.RUNNING) {
+            throw new IllegalStateException("Statement import " + running.id + " is already running");
+        }
+        if (file == null || file.isBlank()) {
+            throw new IllegalArgumentException("Statement file is required");
+        }
+        if (fromOffset < 0) {
+            throw new IllegalArgumentException("fromOffset must not be negative");
+        }
+        
+        Path directory = Path.of(config.getDirectory()).toAbsolutePath().normalize();
+        Path path = directory.resolve(file).normalize();
+        if (!path.startsWith(directory) || !Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("Statement file not found in the import directory: " + file);
+        }
+        StatementFormat statementFormat = StatementFormat.resolve(format, path.getFileName().toString());
+        
+        Job job = new Job(UUID.randomUUID(), path, statementFormat, fromOffset);
+        currentJob.set(job);
+        executor.execute(job::run);
+        return job.status();
+    }
+    
+    /**
+     * Gets the live status of the current (or last) import of this instance.
+     * 
+     * @return Optional containing the import status, empty if no import ran since startup
+     */
+    public Optional<ImportStatus> currentStatus() {
+        return Optional.ofNullable(currentJob.get()).map(Job::status);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Lifecycle state of an import.
+     */
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+    
+    /**
+     * Live status of an import.
+     * 
+     * @param importId the import ID
+     * @param file the file path
+     * @param format the file layout
+     * @param state the import state
+     * @param startedAt when the import started
+     * @param finishedAt when the import finished (null while running)
+     * @param fileSize the file size in bytes
+     * @param startOffset the offset the import started from
+     * @param restartOffset the offset to restart from: every row before it is committed
+     * @param bytesParsed bytes of the chunks fully parsed
+     * @param chunks the number of chunks
+     * @param chunksCommitted chunks whose rows are all committed
+     * @param rowsParsed records read from the file
+     * @param rowsWritten rows committed to the database
+     * @param rowsFailed rows of batches that failed to write
+     * @param rowsRejected malformed records skipped
+     * @param rowsUnknownCustomer records skipped because no customer has their CPF
+     * @param rowsPerSecond rows committed per second
+     * @param firstError the first rejected record or failure (null if none)
+     */
+    public record ImportStatus(
+            UUID importId,
+            String file,
+            StatementFormat format,
+            State state,
+            Instant startedAt,
+            Instant finishedAt,
+            long fileSize,
+            long startOffset,
+            long restartOffset,
+            long bytesParsed,
+            int chunks,
+            int chunksCommitted,
+            long rowsParsed,
+            long rowsWritten,
+            long rowsFailed,
+            long rowsRejected,
+            long rowsUnknownCustomer,
+            double rowsPerSecond,
+            String firstError
+    ) {
+    }
+    
+    /**
+     * One import: chunk progress, counters and the ingestion session.
+     */
+    private final class Job {
+        
+        private final UUID id;
+        private final Path path;
+        private final StatementFormat format;
+        private final long startOffset;
+        private final Instant startedAt = Instant.now();
+        private final LongAdder bytesParsed = new LongAdder();
+        private final LongAdder rowsParsed = new LongAdder();
+        private final LongAdder rowsRejected = new LongAdder();
+        private final LongAdder rowsUnknownCustomer = new LongAdder();
+        private final AtomicReference<String> firstError = new AtomicReference<>();
+        
+        private volatile State state = State.RUNNING;
+        private volatile boolean aborted;
+        private volatile Instant finishedAt;
+        private volatile long fileSize;
+        private volatile TransactionIngestionService.Session session;
+        private volatile List<StatementChunk> chunks = List.of();
+        private final List<TransactionIngestionService.FeedResult> committed = new ArrayList<>();
+        private int committedRun;
+        private long restartOffset;
+        private long rowsWritten;
+        private long rowsFailed;
+        
+        Job(UUID id, Path path, StatementFormat format, long startOffset) {
+            this.id = id;
+            this.path = path;
+            this.format = format;
+            this.startOffset = startOffset;
+            this.restartOffset = startOffset;
+        }
+        
+        void run() {
+            try (StatementFile statement = StatementFile.open(
+                    path, format, Charset.forName(config.getCharset()), config.getCsvDelimiter())) {
+                fileSize = statement.size();
+                long indexStart = System.nanoTime();
+                CpfIndex customers = CpfIndex.load(customerRepository);
+                log.info("Statement import {} of {}: {} customers indexed in {} ms",
+                        id, path.getFileName(), customers.size(), (System.nanoTime() - indexStart) / 1_000_000);
+                
+                List<StatementChunk> split = statement.split(startOffset, config.getChunkSize().toBytes());
+                synchronized (this) {
+                    split.forEach(chunk -> committed.add(null));
+                    restartOffset = split.isEmpty() ? Math.max(startOffset, fileSize) : split.get(0).start();
+                    chunks = split;
+                }
+                
+                session = ingestionService.open();
+                AtomicInteger nextChunk = new AtomicInteger();
+                try (ExecutorService producers = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int i = 0; i < Math.max(1, config.getParallelism()); i++) {
+                        producers.execute(() -> {
+                            int index;
+                            while ((index = nextChunk.getAndIncrement()) < split.size()) {
+                                importChunk(statement, customers, split.get(index));
+                            }
+                        });
+                    }
+                }
+                session.finish();
+            } catch (IOException | RuntimeException e) {
+                aborted = true;
+                firstError.compareAndSet(null, e.getMessage());
+                log.error("Statement import {} of {} failed: {}", id, path.getFileName(), e.getMessage(), e);
+                if (session != null) {
+                    session.finish();
+                }
+            } finally {
+                finishedAt = Instant.now();
+                synchronized (this) {
+                    state = !aborted && committedRun == chunks.size() ? State.COMPLETED : State.FAILED;
+                }
+                log.info("Statement import {} of {} {}: {} rows written, {} rejected, {} unknown customers "
+                                + "in {}; restart offset {}",
+                        id, path.getFileName(), state, rowsWritten, rowsRejected.sum(), rowsUnknownCustomer.sum(),
+                        Duration.between(startedAt, finishedAt), restartOffset);
+            }
+        }
+        
+        private void importChunk(StatementFile statement, CpfIndex customers, StatementChunk chunk) {
+            try {
+                StatementReader reader = statement.reader(chunk);
+                session.feed(new ChunkRows(reader, customers), result -> chunkCommitted(chunk, result));
+                bytesParsed.add(chunk.length());
+            } catch (IOException | RuntimeException e) {
+                firstError.compareAndSet(null, "Chunk at byte " + chunk.start() + ": " + e.getMessage());
+                log.error("Statement import {} failed to read the chunk at byte {}: {}", id, chunk.start(), e.getMessage());
+            }
+        }
+        
+        /**
+         * Records a chunk whose rows are all handled and advances the restart offset over
+         * the leading run of fully written chunks.
+         */
+        private synchronized void chunkCommitted(StatementChunk chunk, TransactionIngestionService.FeedResult result) {
+            committed.set(chunk.index(), result);
+            rowsWritten += result.rowsWritten();
+            rowsFailed += result.rowsFailed();
+            long previous = restartOffset;
+            while (committedRun < chunks.size()
+                    && committed.get(committedRun) != null
+                    && committed.get(committedRun).rowsFailed() == 0) {
+                restartOffset = chunks.get(committedRun).end();
+                committedRun++;
+            }
+            if (restartOffset != previous) {
+                log.info("Statement import {} committed through byte {} of {}", id, restartOffset, fileSize);
+            }
+        }
+        
+        synchronized ImportStatus status() {
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            double seconds = Math.max(0.001, Duration.between(startedAt, end).toNanos() / 1e9);
+            TransactionIngestionService.Session live = session;
+            long written = live != null ? live.rowsWritten() : rowsWritten;
+            return new ImportStatus(
+                    id,
+                    path.toString(),
+                    format,
+                    state,
+                    startedAt,
+                    finishedAt,
+                    fileSize,
+                    startOffset,
+                    restartOffset,
+                    bytesParsed.sum(),
+                    chunks.size(),
+                    (int) committed.stream().filter(Objects::nonNull).count(),
+                    rowsParsed.sum(),
+                    written,
+                    live != null ? live.rowsFailed() : rowsFailed,
+                    rowsRejected.sum(),
+                    rowsUnknownCustomer.sum(),
+                    written / seconds,
+                    firstError.get()
+            );
+        }
+        
+        /**
+         * The transactions of one chunk, decoded lazily from the mapped records.
+         */
+        private final class ChunkRows implements Iterator<Transaction> {
+            
+            private final StatementReader reader;
+            private final CpfIndex customers;
+            private Transaction next;
+            
+            ChunkRows(StatementReader reader, CpfIndex customers) {
+                this.reader = reader;
+                this.customers = customers;
+            }
+            
+            @Override
+            public boolean hasNext() {
+                while (next == null && reader.next()) {
+                    rowsParsed.increment();
+                    next = toTransaction(reader.record());
+                }
+                return next != null;
+            }
+            
+            @Override
+            public Transaction next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Transaction transaction = next;
+                next = null;
+                return transaction;
+            }
+            
+            private Transaction toTransaction(StatementRecord record) {
+                try {
+                    UUID customerId = customers.find(record.cpf());
+                    if (customerId == null) {
+                        rowsUnknownCustomer.increment();
+                        return null;
+                    }
+                    BigDecimal amount = record.amount();
+                    Transaction.TransactionType type = record.type(amount);
+                    if (amount.signum() == 0) {
+                        throw new IllegalArgumentException("Zero amount in record at byte " + record.offset());
+                    }
+                    return Transaction.builder()
+                            .customerId(customerId)
+                            .date(record.date())
+                            .amount(amount.abs())
+                            .type(type)
+                            .description(record.description())
+                            .build();
+                } catch (IllegalArgumentException e) {
+                    rowsRejected.increment();
+                    firstError.compareAndSet(null, e.getMessage());
+                    log.debug("Statement import {} rejected a record: {}", id, e.getMessage());
+                    return null;
+                }
+            }
+        }
+    }
+}
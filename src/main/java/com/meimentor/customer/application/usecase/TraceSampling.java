@@ -0,0 +1,109 @@
+package com.meimentor.customer.application.usecase;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-request log sampling, carried along the calling thread in the logging MDC.
+ * 
+ * <p>The web filter opens a {@link Scope} for every request with a trace ID and a sampling
+ * decision ({@code logging.trace-sampling.rate}). Costly diagnostics, such as full OpenAI
+ * prompts and answers, are logged only when {@link #isSampled()} holds, and then capped by
+ * {@link #payload(Object)}, so unsampled requests pay neither the string building nor the
+ * appender work. Work running outside a request (e.g. batched completions) samples itself
+ * at the same rate.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public final class TraceSampling {
+    
+    public static final String TRACE_ID = "traceId";
+    public static final String SAMPLED = "sampled";
+    
+    private static volatile double rate = 0.01;
+    private static volatile int maxPayloadLength = 2000;
+    
+    private TraceSampling() {
+    }
+    
+    /**
+     * Sets the sampling rate and payload cap; called once at startup.
+     * 
+     * @param sampleRate fraction of requests sampled (0 to 1)
+     * @param payloadLength longest payload logged, in characters
+     */
+    public static void configure(double sampleRate, int payloadLength) {
+        rate = sampleRate;
+        maxPayloadLength = payloadLength;
+    }
+    
+    /**
+     * Draws a sampling decision at the configured rate.
+     * 
+     * @return true if the work should be sampled
+     */
+    public static boolean sample() {
+        double current = rate;
+        return current >= 1 || (current > 0 && ThreadLocalRandom.current().nextDouble() < current);
+    }
+    
+    /**
+     * Marks the current thread as handling a traced request until the scope is closed.
+     * 
+     * @param traceId the request trace ID
+     * @param sampled whether the request is sampled
+     * @return the scope restoring the previous state on close
+     */
+    public static Scope begin(String traceId, boolean sampled) {
+        String previousTraceId = MDC.get(TRACE_ID);
+        String previousSampled = MDC.get(SAMPLED);
+        MDC.put(TRACE_ID, traceId);
+        MDC.put(SAMPLED, Boolean.toString(sampled));
+        return () -> {
+            restore(TRACE_ID, previousTraceId);
+            restore(SAMPLED, previousSampled);
+        };
+    }
+    
+    /**
+     * Checks whether the current work is sampled.
+     * 
+     * @return the request's decision, or a fresh one outside a request
+     */
+    public static boolean isSampled() {
+        String sampled = MDC.get(SAMPLED);
+        return sampled != null ? Boolean.parseBoolean(sampled) : sample();
+    }
+    
+    /**
+     * Renders a payload for logging, cut at {@code logging.payload.max-length} characters.
+     * 
+     * @param payload the payload (may be null)
+     * @return the capped text
+     */
+    public static String payload(Object payload) {
+        String text = String.valueOf(payload);
+        int max = maxPayloadLength;
+        return text.length() <= max
+                ? text
+                : text.substring(0, max) + "… (" + (text.length() - max) + " more chars)";
+    }
+    
+    private static void restore(String key, String previous) {
+        if (previous == null) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, previous);
+        }
+    }
+    
+    /**
+     * An open trace on the current thread.
+     */
+    public interface Scope extends AutoCloseable {
+        
+        @Override
+        void close();
+    }
+}
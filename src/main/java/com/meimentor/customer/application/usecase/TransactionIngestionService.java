@@ -0,0 +1,372 @@
+package com.meimentor.customer.application.usecase;
+
+import com.meimentor.customer.domain.model.Transaction;
+import com.meimentor.customer.domain.port.TransactionRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Service responsible for high-volume transaction ingestion.
+ * 
+ * <p>Rows are pulled one at a time from the caller (e.g. a request body being parsed) and
+ * grouped into batches of {@code ingest.batch-size}. Each customer is routed to one of
+ * {@code ingest.writers} writers, so a customer's rows are written in arrival order and two
+ * writers never update the same monthly rollup concurrently. Each writer drains a bounded
+ * queue of {@code ingest.queue-capacity} batches; when the database falls behind the queue
+ * fills up and the caller blocks, which back-pressures the producer (for HTTP, through TCP
+ * flow control) instead of buffering the feed in memory. Producers reading one source in
+ * parallel share the same writers through a {@link Session}.</p>
+ * 
+ * <p>Rows are counted as {@code transactions.ingest.rows{outcome}}, batch writes are timed as
+ * {@code transactions.ingest.batch} and the time the producer spent blocked is recorded as
+ * {@code transactions.ingest.backpressure}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Service
+@Slf4j
+public class TransactionIngestionService {
+    
+    private final TransactionRepositoryPort transactionRepository;
+    private final int batchSize;
+    private final int writers;
+    private final int queueCapacity;
+    
+    private final Counter rowsWritten;
+    private final Counter rowsFailed;
+    private final Timer batchTimer;
+    private final Timer backPressureTimer;
+    
+    public TransactionIngestionService(
+            TransactionRepositoryPort transactionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${ingest.batch-size:1000}") int batchSize,
+            @Value("${ingest.writers:4}") int writers,
+            @Value("${ingest.queue-capacity:4}") int queueCapacity
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.batchSize = batchSize;
+        this.writers = writers;
+        this.queueCapacity = queueCapacity;
+        
+        this.rowsWritten = Counter.builder("transactions.ingest.rows").tag("outcome", "written")
+                .description("Ingested transaction rows").register(meterRegistry);
+        this.rowsFailed = Counter.builder("transactions.ingest.rows").tag("outcome", "failed")
+                .description("Ingested transaction rows").register(meterRegistry);
+        this.batchTimer = Timer.builder("transactions.ingest.batch")
+                .description("Time to write one ingestion batch")
+                .register(meterRegistry);
+        this.backPressureTimer = Timer.builder("transactions.ingest.backpressure")
+                .description("Time the producer waited for a writer queue slot")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Ingests every row of a feed, returning once all of them are written or failed.
+     * 
+     * <p>A failed batch is counted and reported without stopping the feed. If reading the
+     * feed itself fails, the batches already queued are still written and the error is
+     * rethrown with the number of rows written so far.</p>
+     * 
+     * @param rows the feed; {@code next()} may block or throw on malformed input
+     * @return the ingestion report
+     * @throws IllegalArgumentException if the feed cannot be read
+     */
+    public IngestionReport ingest(Iterator<Transaction> rows) {
+        Session session = open();
+        try {
+            session.feed(rows, result -> { });
+        } catch (IllegalArgumentException e) {
+            IngestionReport partial = session.finish();
+            throw new IllegalArgumentException(e.getMessage() + " (" + partial.rowsWritten()
+                    + " rows already written)", e.getCause());
+        } catch (RuntimeException e) {
+            session.finish();
+            throw e;
+        }
+        return session.finish();
+    }
+    
+    /**
+     * Opens an ingestion session whose writers are shared by every feed handed to it.
+     * 
+     * <p>Used when several producers read parts of the same source in parallel: each calls
+     * {@link Session#feed} from its own thread and the rows still go through the same
+     * per-customer writers. {@link Session#finish()} must be called once every feed returned.</p>
+     * 
+     * @return the open session
+     */
+    public Session open() {
+        return new Session();
+    }
+    
+    /**
+     * A set of running writers shared by one or more feeds.
+     */
+    public final class Session {
+        
+        private final long start = System.nanoTime();
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        private final List<PipelineStage<Batch>> stages = new ArrayList<>(writers);
+        private final LongAdder received = new LongAdder();
+        private final LongAdder written = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder blockedNanos = new LongAdder();
+        private final AtomicReference<String> firstError = new AtomicReference<>();
+        private final ReentrantLock finishLock = new ReentrantLock();
+        private IngestionReport report;
+        
+        private Session() {
+            for (int i = 0; i < writers; i++) {
+                PipelineStage<Batch> stage = new PipelineStage<>("ingest-" + i, 1, queueCapacity);
+                stage.start(executor,
+                        batch -> {
+                            batchTimer.record(() -> transactionRepository.insertAll(batch.rows()));
+                            written.add(batch.rows().size());
+                            batches.increment();
+                            rowsWritten.increment(batch.rows().size());
+                            batch.feed().batchWritten(batch.rows().size());
+                        },
+                        (batch, e) -> {
+                            failed.add(batch.rows().size());
+                            rowsFailed.increment(batch.rows().size());
+                            firstError.compareAndSet(null, e.getMessage());
+                            log.warn("Failed to ingest a batch of {} transactions: {}", batch.rows().size(), e.getMessage());
+                            batch.feed().batchFailed(batch.rows().size());
+                        },
+                        () -> { });
+                stages.add(stage);
+            }
+        }
+        
+        /**
+         * Reads a feed to its end on the calling thread, handing full batches to the writers.
+         * 
+         * <p>May be called concurrently by several threads. Returns once every row has been
+         * handed over, usually before they are all written; {@code onCommitted} is invoked
+         * (on a writer thread) once every batch of this feed has been written or has failed.</p>
+         * 
+         * @param rows the feed; {@code next()} may block or throw on malformed input
+         * @param onCommitted receives the outcome of this feed's rows
+         * @return the number of rows read from the feed
+         * @throws IllegalArgumentException if the feed cannot be read; rows read before the
+         *         failing one that were already handed over are still written
+         */
+        public long feed(Iterator<Transaction> rows, Consumer<FeedResult> onCommitted) {
+            FeedTracker feed = new FeedTracker(onCommitted);
+            List<List<Transaction>> buffers = new ArrayList<>(writers);
+            for (int i = 0; i < writers; i++) {
+                buffers.add(new ArrayList<>(batchSize));
+            }
+            
+            long read = 0;
+            try {
+                while (rows.hasNext()) {
+                    Transaction transaction = rows.next();
+                    read++;
+                    int writer = Math.floorMod(transaction.getCustomerId().hashCode(), writers);
+                    List<Transaction> buffer = buffers.get(writer);
+                    buffer.add(transaction);
+                    if (buffer.size() >= batchSize) {
+                        enqueue(writer, buffer, feed);
+                        buffers.set(writer, new ArrayList<>(batchSize));
+                    }
+                }
+                for (int i = 0; i < writers; i++) {
+                    if (!buffers.get(i).isEmpty()) {
+                        enqueue(i, buffers.get(i), feed);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Transaction ingestion interrupted after " + written.sum() + " rows");
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid transaction feed at row " + (read + 1) + ": "
+                        + e.getMessage(), e);
+            } finally {
+                received.add(read);
+                feed.exhausted(read);
+            }
+            return read;
+        }
+        
+        /**
+         * Gets the rows committed so far by every feed of this session.
+         * 
+         * @return rows written
+         */
+        public long rowsWritten() {
+            return written.sum();
+        }
+        
+        /**
+         * Gets the rows of failed batches so far.
+         * 
+         * @return rows failed
+         */
+        public long rowsFailed() {
+            return failed.sum();
+        }
+        
+        /**
+         * Waits for the writers to drain and stops them.
+         * 
+         * @return the report of every feed of this session
+         */
+        public IngestionReport finish() {
+            // A lock rather than synchronized: a virtual thread waiting inside a monitor pins its carrier
+            finishLock.lock();
+            try {
+                if (report == null) {
+                    report = drain();
+                }
+                return report;
+            } finally {
+                finishLock.unlock();
+            }
+        }
+        
+        private IngestionReport drain() {
+            try {
+                stages.forEach(PipelineStage::close);
+                for (PipelineStage<Batch> stage : stages) {
+                    stage.awaitDrained();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Transaction ingestion interrupted after " + written.sum() + " rows");
+            } finally {
+                executor.shutdownNow();
+            }
+            
+            long elapsedNanos = System.nanoTime() - start;
+            double seconds = Math.max(elapsedNanos / 1e9, 1e-3);
+            IngestionReport report = new IngestionReport(
+                    received.sum(),
+                    written.sum(),
+                    failed.sum(),
+                    batches.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    written.sum() / seconds,
+                    TimeUnit.NANOSECONDS.toMillis(blockedNanos.sum()),
+                    firstError.get()
+            );
+            log.info("Ingested {} of {} transactions in {} batches ({} rows/s, {} ms back-pressure)",
+                    report.rowsWritten(), report.rowsReceived(), report.batches(),
+                    Math.round(report.rowsPerSecond()), report.backPressureMillis());
+            return report;
+        }
+        
+        /**
+         * Hands a full batch to its writer, waiting while the writer queue is full.
+         */
+        private void enqueue(int writer, List<Transaction> rows, FeedTracker feed) throws InterruptedException {
+            long waitStart = System.nanoTime();
+            feed.batchQueued();
+            stages.get(writer).put(new Batch(rows, feed));
+            long waited = System.nanoTime() - waitStart;
+            backPressureTimer.record(waited, TimeUnit.NANOSECONDS);
+            blockedNanos.add(waited);
+        }
+    }
+    
+    /**
+     * Outcome of one feed of a session.
+     * 
+     * @param rowsRead rows read from the feed
+     * @param rowsWritten rows committed to the database
+     * @param rowsFailed rows of batches that failed to write
+     */
+    public record FeedResult(long rowsRead, long rowsWritten, long rowsFailed) {
+    }
+    
+    private record Batch(List<Transaction> rows, FeedTracker feed) {
+    }
+    
+    /**
+     * Counts the batches of one feed still in flight; the feed holds one extra count until it is
+     * exhausted, so the callback fires exactly once, after its last batch.
+     */
+    private static final class FeedTracker {
+        
+        private final Consumer<FeedResult> onCommitted;
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final LongAdder written = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private volatile long read;
+        
+        FeedTracker(Consumer<FeedResult> onCommitted) {
+            this.onCommitted = onCommitted;
+        }
+        
+        void batchQueued() {
+            pending.incrementAndGet();
+        }
+        
+        void batchWritten(int rows) {
+            written.add(rows);
+            release();
+        }
+        
+        void batchFailed(int rows) {
+            failed.add(rows);
+            release();
+        }
+        
+        void exhausted(long rows) {
+            read = rows;
+            release();
+        }
+        
+        private void release() {
+            if (pending.decrementAndGet() == 0) {
+                try {
+                    onCommitted.accept(new FeedResult(read, written.sum(), failed.sum()));
+                } catch (RuntimeException e) {
+                    log.error("Feed completion callback failed: {}", e.getMessage(), e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Outcome of one ingestion.
+     * 
+     * @param rowsReceived rows read from the feed
+     * @param rowsWritten rows committed to the database
+     * @param rowsFailed rows of batches that failed to write
+     * @param batches batches committed
+     * @param elapsedMillis wall-clock duration of the ingestion
+     * @param rowsPerSecond rows committed per second
+     * @param backPressureMillis time the feed was paused waiting for the writers
+     * @param firstError message of the first failed batch (null if none failed)
+     */
+    public record IngestionReport(
+            long rowsReceived,
+            long rowsWritten,
+            long rowsFailed,
+            long batches,
+            long elapsedMillis,
+            double rowsPerSecond,
+            long backPressureMillis,
+            String firstError
+    ) {
+    }
+}
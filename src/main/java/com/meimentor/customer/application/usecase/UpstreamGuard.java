@@ -0,0 +1,253 @@
+package com.meimentor.customer.application.usecase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bulkhead, deadline and circuit breaker around calls to a slow upstream.
+ * 
+ * <p>Each call:
+ * - is rejected at once while the circuit is open, or when the caller's {@link LatencyBudget}
+ *   is already spent
+ * - waits briefly for one of a fixed number of concurrent slots (the bulkhead)
+ * - is abandoned when it outlives the shorter of the per-call timeout and the caller's
+ *   remaining budget</p>
+ * 
+ * <p>The circuit opens after {@code failureThreshold} consecutive failures or timeouts of
+ * the per-call timeout. A call cut short by a caller budget tighter than that timeout says
+ * nothing about the upstream's health: it is counted as {@code budget_expired} and leaves
+ * the circuit alone, so clients sending small budgets cannot open it for everyone. After {@code openDuration} a single trial call is let through: success closes the
+ * circuit, failure opens it again. Rejections and timeouts surface as
+ * {@link UpstreamUnavailableException} so callers can go straight to their fallback.</p>
+ * 
+ * <p>Metrics, prefixed with the guard name: {@code .calls{outcome}},
+ * {@code .rejections{reason}}, {@code .circuit.state} (0 closed, 1 open, 2 half-open) and
+ * {@code .bulkhead.available}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+final class UpstreamGuard {
+    
+    enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+    
+    private final Semaphore bulkhead;
+    private final Duration maxWait;
+    private final Duration callTimeout;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    
+    private CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+    
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter timeouts;
+    private final Counter budgetExpiries;
+    private final Counter circuitRejections;
+    private final Counter bulkheadRejections;
+    private final Counter deadlineRejections;
+    
+    UpstreamGuard(
+            String name,
+            int maxConcurrent,
+            Duration maxWait,
+            Duration callTimeout,
+            int failureThreshold,
+            Duration openDuration,
+            MeterRegistry meterRegistry
+    ) {
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.maxWait = maxWait;
+        this.callTimeout = callTimeout;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        
+        this.successes = callCounter(meterRegistry, name, "success");
+        this.failures = callCounter(meterRegistry, name, "failure");
+        this.timeouts = callCounter(meterRegistry, name, "timeout");
+        this.budgetExpiries = callCounter(meterRegistry, name, "budget_expired");
+        this.circuitRejections = rejectionCounter(meterRegistry, name, "circuit_open");
+        this.bulkheadRejections = rejectionCounter(meterRegistry, name, "bulkhead_full");
+        this.deadlineRejections = rejectionCounter(meterRegistry, name, "deadline");
+        meterRegistry.gauge(name + ".circuit.state", this, guard -> guard.getState().ordinal());
+        meterRegistry.gauge(name + ".bulkhead.available", bulkhead, Semaphore::availablePermits);
+    }
+    
+    /**
+     * Runs a call through the guard.
+     * 
+     * @param call the upstream call
+     * @param <T> the result type
+     * @return the call result
+     * @throws UpstreamUnavailableException if the call was rejected or timed out
+     * @throws RuntimeException the call's own failure
+     */
+    <T> T call(Callable<T> call) {
+        Duration timeLimit = LatencyBudget.remaining()
+                .map(remaining -> remaining.compareTo(callTimeout) < 0 ? remaining : callTimeout)
+                .orElse(callTimeout);
+        boolean budgetLimited = timeLimit.compareTo(callTimeout) < 0;
+        if (timeLimit.isNegative() || timeLimit.isZero()) {
+            deadlineRejections.increment();
+            throw new UpstreamUnavailableException("caller deadline already expired");
+        }
+        if (!tryEnter()) {
+            circuitRejections.increment();
+            throw new UpstreamUnavailableException("circuit open");
+        }
+        
+        Instant start = Instant.now();
+        if (!acquire(timeLimit.compareTo(maxWait) < 0 ? timeLimit : maxWait)) {
+            abandonTrial();
+            bulkheadRejections.increment();
+            throw new UpstreamUnavailableException("bulkhead full");
+        }
+        
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return call.call();
+                } finally {
+                    // The slot is held until the upstream call really ends, even if abandoned
+                    bulkhead.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            abandonTrial();
+            throw new UpstreamUnavailableException("guard shut down");
+        }
+        
+        try {
+            T result = future.get(timeLimit.minus(Duration.between(start, Instant.now())).toNanos(), TimeUnit.NANOSECONDS);
+            successes.increment();
+            onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            if (budgetLimited) {
+                budgetExpiries.increment();
+                abandonTrial();
+            } else {
+                timeouts.increment();
+                onFailure();
+            }
+            throw new UpstreamUnavailableException("no answer within " + timeLimit.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            failures.increment();
+            onFailure();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            abandonTrial();
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("interrupted");
+        }
+    }
+    
+    /**
+     * Gets the current circuit state, moving an expired open circuit to half-open.
+     * 
+     * @return circuit state
+     */
+    synchronized CircuitState getState() {
+        if (state == CircuitState.OPEN && !Instant.now().isBefore(openedAt.plus(openDuration))) {
+            state = CircuitState.HALF_OPEN;
+        }
+        return state;
+    }
+    
+    /**
+     * Stops the executor; calls still running are interrupted.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private synchronized boolean tryEnter() {
+        return switch (getState()) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+    
+    private synchronized void onSuccess() {
+        state = CircuitState.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+    
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = CircuitState.OPEN;
+            openedAt = Instant.now();
+        }
+        trialInFlight = false;
+    }
+    
+    private synchronized void abandonTrial() {
+        trialInFlight = false;
+    }
+    
+    private boolean acquire(Duration wait) {
+        try {
+            return bulkhead.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private static Counter callCounter(MeterRegistry registry, String name, String outcome) {
+        return Counter.builder(name + ".calls")
+                .description("Upstream calls by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+    
+    private static Counter rejectionCounter(MeterRegistry registry, String name, String reason) {
+        return Counter.builder(name + ".rejections")
+                .description("Upstream calls rejected without being attempted")
+                .tag("reason", reason)
+                .register(registry);
+    }
+    
+    /**
+     * Signals that the upstream was not called, or gave no answer in time.
+     */
+    static final class UpstreamUnavailableException extends RuntimeException {
+        
+        UpstreamUnavailableException(String message) {
+            super(message);
+        }
+    }
+}
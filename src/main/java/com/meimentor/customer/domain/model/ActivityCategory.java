@@ -0,0 +1,92 @@
+package com.meimentor.customer.domain.model;
+
+/**
+ * Probable business activity inferred from transaction descriptions.
+ * 
+ * <p>Constants are declared in precedence order: when descriptions hint at
+ * more than one activity, the first matching constant wins.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public enum ActivityCategory {
+    
+    FOOD(1, "Alimentação/Doces", "doce", "alimentação", "comida", "venda"),
+    TECH(2, "Serviços/Tech", "serviço", "tech", "software", "desenvolvimento"),
+    COMMERCE(3, "Comércio/Serviços", "pix", "recebimento", "pagamento");
+    
+    private static final ActivityCategory[] VALUES = values();
+    
+    private final int id;
+    private final String label;
+    private final String[] keywords;
+    
+    ActivityCategory(int id, String label, String... keywords) {
+        this.id = id;
+        this.label = label;
+        this.keywords = keywords;
+    }
+    
+    /**
+     * Gets the stable identifier used when the category is persisted.
+     * 
+     * @return category id (never 0, which stands for "no category")
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * Gets the human-readable activity label sent to enrichment.
+     * 
+     * @return activity label
+     */
+    public String getLabel() {
+        return label;
+    }
+    
+    /**
+     * Gets the bit representing this category in an activity hints mask.
+     * 
+     * @return category bit
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+    
+    /**
+     * Gets the keywords hinting at this category.
+     * 
+     * @return a copy of the category keywords
+     */
+    public String[] getKeywords() {
+        return keywords.clone();
+    }
+    
+    /**
+     * Resolves the highest-precedence category present in a hints mask.
+     * 
+     * @param hints bitmask of categories
+     * @return the resolved category, or null if the mask is empty
+     */
+    public static ActivityCategory fromHints(int hints) {
+        if (hints == 0) {
+            return null;
+        }
+        return VALUES[Integer.numberOfTrailingZeros(hints)];
+    }
+    
+    /**
+     * Resolves a category from its persisted identifier.
+     * 
+     * @param id the category id
+     * @return the category, or null for 0 or an unknown id
+     */
+    public static ActivityCategory fromId(int id) {
+        for (ActivityCategory category : VALUES) {
+            if (category.id == id) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
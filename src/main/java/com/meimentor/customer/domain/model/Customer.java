@@ -29,11 +29,30 @@ public class Customer {
      * @return true if CPF is valid, false otherwise
      */
     public boolean hasValidCpf() {
+        return isValidCpf(cpf);
+    }
+    
+    /**
+     * Validates a CPF format (11 digits, punctuation ignored).
+     * 
+     * @param cpf the CPF to validate
+     * @return true if CPF is valid, false otherwise
+     */
+    public static boolean isValidCpf(String cpf) {
+        return normalizeCpf(cpf).length() == 11;
+    }
+    
+    /**
+     * Strips every non-digit character from a CPF.
+     * 
+     * @param cpf the CPF, possibly formatted (e.g. 123.456.789-01)
+     * @return digits only, or an empty string if cpf is null
+     */
+    public static String normalizeCpf(String cpf) {
         if (cpf == null || cpf.isBlank()) {
-            return false;
+            return "";
         }
-        String cleanCpf = cpf.replaceAll("[^0-9]", "");
-        return cleanCpf.length() == 11;
+        return cpf.replaceAll("[^0-9]", "");
     }
     
     /**
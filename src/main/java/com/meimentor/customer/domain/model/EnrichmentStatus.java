@@ -0,0 +1,20 @@
+package com.meimentor.customer.domain.model;
+
+/**
+ * Whether an opportunity analysis already includes market intelligence.
+ * 
+ * @author MEI-Mentor Team
+ */
+public enum EnrichmentStatus {
+    
+    /**
+     * Base figures only; market intelligence, the digital presence bonus and the final
+     * recommendation are still being computed.
+     */
+    PENDING,
+    
+    /**
+     * Final analysis, including market intelligence.
+     */
+    COMPLETED
+}
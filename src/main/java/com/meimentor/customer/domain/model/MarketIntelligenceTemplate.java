@@ -0,0 +1,151 @@
+package com.meimentor.customer.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Domain Model holding the niche-level part of a market intelligence answer, reusable
+ * across every customer with the same probable activity.
+ * 
+ * <p>Customer-specific text (the customer's name and the social media handle derived from it)
+ * is replaced by placeholders when the template is created and filled in again by
+ * {@link #personalise(UUID, String)}, so no AI call is needed for subsequent customers.
+ * Only whole-word occurrences of the name and handle are replaced, so words that merely
+ * contain them (e.g. "banana" for a customer named "Ana") are left alone. Names shorter than
+ * {@value #MIN_ANONYMISABLE_LENGTH} letters cannot be told apart from ordinary words safely;
+ * answers generated for them must not be turned into templates (see {@link #canAnonymise(String)}).</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Getter
+@Builder
+public class MarketIntelligenceTemplate {
+    
+    public static final String NAME_PLACEHOLDER = "{customerName}";
+    public static final String HANDLE_PLACEHOLDER = "{customerHandle}";
+    public static final int MIN_ANONYMISABLE_LENGTH = 4;
+    
+    private static final String WORD_START = "(?<![\\p{L}\\p{N}_])";
+    private static final String WORD_END = "(?![\\p{L}\\p{N}_])";
+    
+    private String key;
+    private String businessNiche;
+    private Integer digitalPresenceScore;
+    private String estimatedMaturity;
+    private String recommendedApproach;
+    private String socialMediaPlatform;
+    private Integer socialMediaFollowers;
+    private Boolean hasGoogleMapsPresence;
+    private long totalTokens;
+    private Instant createdAt;
+    
+    /**
+     * Checks whether answers generated for a customer name can be safely turned into a template.
+     * 
+     * @param customerName the customer name
+     * @return true if the name is long enough for its occurrences to be told apart from other words
+     */
+    public static boolean canAnonymise(String customerName) {
+        return customerName != null && handleOf(customerName.strip()).length() >= MIN_ANONYMISABLE_LENGTH;
+    }
+    
+    /**
+     * Extracts a template from the intelligence generated for one customer.
+     * 
+     * <p>Callers must check {@link #canAnonymise(String)} first.</p>
+     * 
+     * @param key the cache key (model and activity)
+     * @param intelligence the generated intelligence
+     * @param customerName the name of the customer it was generated for
+     * @param totalTokens the tokens the generation cost
+     * @return the template
+     */
+    public static MarketIntelligenceTemplate of(
+            String key,
+            MarketIntelligence intelligence,
+            String customerName,
+            long totalTokens
+    ) {
+        return MarketIntelligenceTemplate.builder()
+                .key(key)
+                .businessNiche(anonymise(intelligence.getBusinessNiche(), customerName))
+                .digitalPresenceScore(intelligence.getDigitalPresenceScore())
+                .estimatedMaturity(intelligence.getEstimatedMaturity())
+                .recommendedApproach(anonymise(intelligence.getRecommendedApproach(), customerName))
+                .socialMediaPlatform(intelligence.getSocialMediaPlatform())
+                .socialMediaFollowers(intelligence.getSocialMediaFollowers())
+                .hasGoogleMapsPresence(intelligence.getHasGoogleMapsPresence())
+                .totalTokens(totalTokens)
+                .createdAt(Instant.now())
+                .build();
+    }
+    
+    /**
+     * Builds the market intelligence of a specific customer from this template.
+     * 
+     * @param customerId the customer ID
+     * @param customerName the customer name
+     * @return personalised market intelligence with a new ID
+     */
+    public MarketIntelligence personalise(UUID customerId, String customerName) {
+        return MarketIntelligence.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .businessNiche(fill(businessNiche, customerName))
+                .digitalPresenceScore(digitalPresenceScore)
+                .estimatedMaturity(estimatedMaturity)
+                .recommendedApproach(fill(recommendedApproach, customerName))
+                .socialMediaPlatform(socialMediaPlatform)
+                .socialMediaFollowers(socialMediaFollowers)
+                .hasGoogleMapsPresence(hasGoogleMapsPresence)
+                .build();
+    }
+    
+    /**
+     * Checks whether the template is older than the given time-to-live.
+     * 
+     * @param now the current time
+     * @param ttlSeconds the time-to-live in seconds
+     * @return true if the template has expired
+     */
+    public boolean isExpired(Instant now, long ttlSeconds) {
+        return createdAt == null || createdAt.plusSeconds(ttlSeconds).isBefore(now);
+    }
+    
+    private static String anonymise(String text, String customerName) {
+        if (text == null || !canAnonymise(customerName)) {
+            return text;
+        }
+        String name = customerName.strip();
+        String anonymised = wholeWord(name, 0).matcher(text)
+                .replaceAll(Matcher.quoteReplacement(NAME_PLACEHOLDER));
+        return wholeWord(handleOf(name), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(anonymised)
+                .replaceAll(Matcher.quoteReplacement(HANDLE_PLACEHOLDER));
+    }
+    
+    /**
+     * Matches a literal only where it is not part of a longer word (an {@code @} prefix is fine).
+     */
+    private static Pattern wholeWord(String literal, int flags) {
+        return Pattern.compile(WORD_START + Pattern.quote(literal) + WORD_END, flags);
+    }
+    
+    private static String fill(String text, String customerName) {
+        if (text == null) {
+            return null;
+        }
+        String name = customerName != null ? customerName : "";
+        return text.replace(NAME_PLACEHOLDER, name)
+                .replace(HANDLE_PLACEHOLDER, handleOf(name));
+    }
+    
+    private static String handleOf(String customerName) {
+        return customerName.toLowerCase(Locale.ROOT).replace(" ", "");
+    }
+}
@@ -0,0 +1,31 @@
+package com.meimentor.customer.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Domain Model holding the pre-aggregated transaction figures of one customer in one month.
+ * 
+ * <p>Rollups are maintained incrementally as transactions are saved, so analyses can
+ * read a handful of monthly rows instead of the whole transaction history.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Getter
+@Builder
+public class MonthlyRollup {
+    
+    private UUID customerId;
+    private YearMonth month;
+    private BigDecimal commercialCreditSum;
+    private long commercialCreditCount;
+    private BigDecimal debitSum;
+    private int distinctDayCount;
+    private int activityHints;
+    private LocalDate firstTransactionDate; // Customer's first transaction ever; only set on window aggregates
+}
@@ -0,0 +1,145 @@
+package com.meimentor.customer.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, month-ordered series of {@link MonthlyRollup} rows with prefix sums.
+ * 
+ * <p>Sums and counts over any month window (e.g. the last 12 months, or everything
+ * up to an as-of month) are answered with two prefix lookups after a binary search;
+ * activity hints are OR-ed over the months of the window. The customer's first
+ * transaction date, when the rollups carry it, is passed on to every summary.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public class MonthlyRollupSeries {
+    
+    private final YearMonth[] months;
+    private final BigDecimal[] commercialCreditPrefix;
+    private final long[] commercialCountPrefix;
+    private final BigDecimal[] debitPrefix;
+    private final int[] distinctDayPrefix;
+    private final int[] activityHints;
+    private final LocalDate firstTransactionDate;
+    
+    private MonthlyRollupSeries(List<MonthlyRollup> sorted) {
+        int size = sorted.size();
+        months = new YearMonth[size];
+        commercialCreditPrefix = new BigDecimal[size + 1];
+        commercialCountPrefix = new long[size + 1];
+        debitPrefix = new BigDecimal[size + 1];
+        distinctDayPrefix = new int[size + 1];
+        activityHints = new int[size];
+        
+        commercialCreditPrefix[0] = BigDecimal.ZERO;
+        debitPrefix[0] = BigDecimal.ZERO;
+        LocalDate first = null;
+        for (int i = 0; i < size; i++) {
+            MonthlyRollup rollup = sorted.get(i);
+            months[i] = rollup.getMonth();
+            commercialCreditPrefix[i + 1] = commercialCreditPrefix[i].add(rollup.getCommercialCreditSum());
+            commercialCountPrefix[i + 1] = commercialCountPrefix[i] + rollup.getCommercialCreditCount();
+            debitPrefix[i + 1] = debitPrefix[i].add(rollup.getDebitSum());
+            distinctDayPrefix[i + 1] = distinctDayPrefix[i] + rollup.getDistinctDayCount();
+            activityHints[i] = rollup.getActivityHints();
+            LocalDate date = rollup.getFirstTransactionDate();
+            if (date != null && (first == null || date.isBefore(first))) {
+                first = date;
+            }
+        }
+        firstTransactionDate = first;
+    }
+    
+    /**
+     * Builds a series from rollups in any order.
+     * 
+     * @param rollups the monthly rollups of one customer
+     * @return the series
+     */
+    public static MonthlyRollupSeries of(List<MonthlyRollup> rollups) {
+        List<MonthlyRollup> sorted = new ArrayList<>(rollups);
+        sorted.sort(Comparator.comparing(MonthlyRollup::getMonth));
+        return new MonthlyRollupSeries(sorted);
+    }
+    
+    /**
+     * Checks if the series has no months.
+     * 
+     * @return true if there are no rollups
+     */
+    public boolean isEmpty() {
+        return months.length == 0;
+    }
+    
+    /**
+     * Summarizes every month of the series.
+     * 
+     * @return accumulator holding the all-time figures
+     */
+    public TransactionAccumulator summarizeAll() {
+        return summarize(0, months.length);
+    }
+    
+    /**
+     * Summarizes the months between two bounds, both inclusive.
+     * 
+     * @param from the first month of the window
+     * @param to the last month of the window
+     * @return accumulator holding the figures of the window
+     */
+    public TransactionAccumulator summarize(YearMonth from, YearMonth to) {
+        return summarize(lowerBound(from), lowerBound(to.plusMonths(1)));
+    }
+    
+    /**
+     * Sums the debits between two months, both inclusive.
+     * 
+     * @param from the first month of the window
+     * @param to the last month of the window
+     * @return debit sum of the window
+     */
+    public BigDecimal debitSum(YearMonth from, YearMonth to) {
+        return debitPrefix[lowerBound(to.plusMonths(1))].subtract(debitPrefix[lowerBound(from)]);
+    }
+    
+    /**
+     * Counts the distinct active days between two months, both inclusive.
+     * 
+     * @param from the first month of the window
+     * @param to the last month of the window
+     * @return number of days with at least one transaction
+     */
+    public int distinctDays(YearMonth from, YearMonth to) {
+        return distinctDayPrefix[lowerBound(to.plusMonths(1))] - distinctDayPrefix[lowerBound(from)];
+    }
+    
+    private TransactionAccumulator summarize(int start, int end) {
+        TransactionAccumulator accumulator = new TransactionAccumulator();
+        accumulator.acceptFirstTransactionDate(firstTransactionDate);
+        if (start >= end) {
+            return accumulator;
+        }
+        
+        int hints = 0;
+        for (int i = start; i < end; i++) {
+            hints |= activityHints[i];
+        }
+        accumulator.acceptTotals(
+                commercialCreditPrefix[end].subtract(commercialCreditPrefix[start]),
+                commercialCountPrefix[end] - commercialCountPrefix[start],
+                hints
+        );
+        return accumulator;
+    }
+    
+    private int lowerBound(YearMonth month) {
+        int index = Arrays.binarySearch(months, month);
+        return index >= 0 ? index : -index - 1;
+    }
+}
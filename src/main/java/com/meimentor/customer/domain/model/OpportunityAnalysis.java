@@ -5,6 +5,7 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -16,7 +17,7 @@ import java.util.UUID;
  * @author MEI-Mentor Team
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class OpportunityAnalysis {
     
     private UUID id;
@@ -27,6 +28,9 @@ public class OpportunityAnalysis {
     private BigDecimal identifiedRevenue;
     private String recommendation;
     private MarketIntelligence marketIntelligence;
+    private Instant analyzedAt;
+    @Builder.Default
+    private EnrichmentStatus enrichmentStatus = EnrichmentStatus.COMPLETED;
     
     /**
      * Checks if the customer has a high potential score.
@@ -37,6 +41,15 @@ public class OpportunityAnalysis {
         return potentialScore != null && potentialScore >= 70;
     }
     
+    /**
+     * Checks if market intelligence is still being computed for this analysis.
+     * 
+     * @return true if only the base figures are available
+     */
+    public boolean isEnrichmentPending() {
+        return enrichmentStatus == EnrichmentStatus.PENDING;
+    }
+    
     /**
      * Checks if the customer has significant monthly loss.
      * 
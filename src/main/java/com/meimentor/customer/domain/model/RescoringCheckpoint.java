@@ -0,0 +1,50 @@
+package com.meimentor.customer.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Domain Model recording the progress of one customer-id partition of a portfolio re-scoring job.
+ * 
+ * <p>Every customer with an id up to {@code lastCustomerId} (inclusive, in database order)
+ * has been re-scored and persisted, so a resumed job restarts the partition right after it.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Getter
+@Builder
+public class RescoringCheckpoint {
+    
+    private UUID jobId;
+    private int partition;
+    private UUID rangeStart;
+    private UUID rangeEnd;
+    private UUID lastCustomerId;
+    private long processedCount;
+    private boolean completed;
+    private Instant updatedAt;
+    
+    /**
+     * Creates the checkpoint of a partition that has just advanced.
+     * 
+     * @param lastCustomerId the last customer id whose analysis is persisted
+     * @param processed the number of customers persisted since the previous checkpoint
+     * @param completed whether the partition has been fully scanned
+     * @return the advanced checkpoint
+     */
+    public RescoringCheckpoint advance(UUID lastCustomerId, long processed, boolean completed) {
+        return RescoringCheckpoint.builder()
+                .jobId(this.jobId)
+                .partition(this.partition)
+                .rangeStart(this.rangeStart)
+                .rangeEnd(this.rangeEnd)
+                .lastCustomerId(lastCustomerId != null ? lastCustomerId : this.lastCustomerId)
+                .processedCount(this.processedCount + processed)
+                .completed(completed)
+                .updatedAt(Instant.now())
+                .build();
+    }
+}
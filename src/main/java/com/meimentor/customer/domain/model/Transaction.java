@@ -1,5 +1,6 @@
 package com.meimentor.customer.domain.model;
 
+import com.meimentor.customer.domain.service.TransactionClassifier;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -25,27 +26,46 @@ public class Transaction {
     private BigDecimal amount;
     private TransactionType type;
     private String description;
+    private Integer classification;
+    
+    /**
+     * Gets the classification mask of this transaction.
+     * 
+     * <p>Transactions loaded from storage carry the mask computed at ingestion;
+     * otherwise the description is classified on demand.</p>
+     * 
+     * @return classification mask as defined by {@link TransactionClassifier}
+     */
+    public int getClassification() {
+        return classification != null ? classification : TransactionClassifier.classify(description);
+    }
     
     /**
      * Checks if this transaction appears to be a commercial transaction
-     * based on description patterns.
+     * based on description patterns (case and accent insensitive).
      * 
      * @return true if transaction description suggests commercial activity
      */
     public boolean isCommercialPattern() {
-        if (description == null || description.isBlank()) {
-            return false;
-        }
-        
-        String lowerDescription = description.toLowerCase();
-        
-        return lowerDescription.contains("pix") ||
-               lowerDescription.contains("serviço") ||
-               lowerDescription.contains("venda") ||
-               lowerDescription.contains("pagamento") ||
-               lowerDescription.contains("recebimento") ||
-               lowerDescription.contains("cliente") ||
-               lowerDescription.contains("fornecedor");
+        return TransactionClassifier.isCommercial(getClassification());
+    }
+    
+    /**
+     * Computes the activity hints mask for this transaction description.
+     * 
+     * @return bitmask of {@link ActivityCategory} values suggested by the description
+     */
+    public int getActivityHints() {
+        return TransactionClassifier.activityHints(getClassification());
+    }
+    
+    /**
+     * Resolves the probable activity suggested by this transaction alone.
+     * 
+     * @return the activity category, or null if none is suggested
+     */
+    public ActivityCategory getActivityCategory() {
+        return ActivityCategory.fromHints(getActivityHints());
     }
     
     /**
@@ -0,0 +1,133 @@
+package com.meimentor.customer.domain.model;
+
+import com.meimentor.customer.domain.service.TransactionClassifier;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Single-pass accumulator of the transaction figures used by opportunity scoring.
+ * 
+ * <p>Each transaction is classified exactly once and folded into running totals:
+ * identified commercial revenue, commercial credit count and activity hints.
+ * Instances are mutable and not thread-safe; call {@link #reset()} to reuse one
+ * across customers.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public class TransactionAccumulator {
+    
+    private BigDecimal identifiedRevenue = BigDecimal.ZERO;
+    private long commercialCreditCount;
+    private int activityHints;
+    private LocalDate firstTransactionDate;
+    
+    /**
+     * Folds a single transaction into the running totals.
+     * 
+     * @param transaction the transaction to accumulate
+     */
+    public void accept(Transaction transaction) {
+        int classification = transaction.getClassification();
+        activityHints |= TransactionClassifier.activityHints(classification);
+        
+        if (transaction.isCredit() && TransactionClassifier.isCommercial(classification)) {
+            identifiedRevenue = identifiedRevenue.add(transaction.getAmount());
+            commercialCreditCount++;
+        }
+    }
+    
+    /**
+     * Folds pre-aggregated totals (e.g. from monthly rollups) into the running totals.
+     * 
+     * @param commercialRevenue the sum of commercial credit amounts
+     * @param commercialCredits the number of commercial credits
+     * @param hints the activity hints of the aggregated transactions
+     */
+    public void acceptTotals(BigDecimal commercialRevenue, long commercialCredits, int hints) {
+        identifiedRevenue = identifiedRevenue.add(commercialRevenue);
+        commercialCreditCount += commercialCredits;
+        activityHints |= hints;
+    }
+    
+    /**
+     * Records the date of the customer's first transaction, keeping the earliest one seen.
+     * 
+     * @param date the first transaction date (ignored if null)
+     */
+    public void acceptFirstTransactionDate(LocalDate date) {
+        if (date != null && (firstTransactionDate == null || date.isBefore(firstTransactionDate))) {
+            firstTransactionDate = date;
+        }
+    }
+    
+    /**
+     * Folds every transaction of a list into the running totals.
+     * 
+     * @param transactions the transactions to accumulate
+     * @return this accumulator
+     */
+    public TransactionAccumulator acceptAll(List<Transaction> transactions) {
+        for (int i = 0, size = transactions.size(); i < size; i++) {
+            accept(transactions.get(i));
+        }
+        return this;
+    }
+    
+    /**
+     * Clears all totals so the accumulator can be reused.
+     */
+    public void reset() {
+        identifiedRevenue = BigDecimal.ZERO;
+        commercialCreditCount = 0;
+        activityHints = 0;
+        firstTransactionDate = null;
+    }
+    
+    /**
+     * Gets the sum of commercial credit amounts.
+     * 
+     * @return identified revenue with scale 2
+     */
+    public BigDecimal getIdentifiedRevenue() {
+        return identifiedRevenue.setScale(2, RoundingMode.HALF_UP);
+    }
+    
+    /**
+     * Gets the number of credit transactions matching commercial patterns.
+     * 
+     * @return commercial credit count
+     */
+    public long getCommercialCreditCount() {
+        return commercialCreditCount;
+    }
+    
+    /**
+     * Gets the union of activity hints seen across all transactions.
+     * 
+     * @return bitmask of {@link ActivityCategory} values
+     */
+    public int getActivityHints() {
+        return activityHints;
+    }
+    
+    /**
+     * Gets the date of the customer's first transaction, when known.
+     * 
+     * @return the first transaction date, or null if it was not recorded
+     */
+    public LocalDate getFirstTransactionDate() {
+        return firstTransactionDate;
+    }
+    
+    /**
+     * Resolves the probable activity from the accumulated hints.
+     * 
+     * @return the probable activity, or null if no activity was hinted
+     */
+    public ActivityCategory getProbableActivity() {
+        return ActivityCategory.fromHints(activityHints);
+    }
+}
@@ -0,0 +1,16 @@
+package com.meimentor.customer.domain.model;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Event published when new transactions have been saved for a set of customers.
+ * 
+ * <p>Any analysis computed before the event is outdated for these customers.</p>
+ * 
+ * @param customerIds the customers whose transactions changed
+ * 
+ * @author MEI-Mentor Team
+ */
+public record TransactionsIngestedEvent(Set<UUID> customerIds) {
+}
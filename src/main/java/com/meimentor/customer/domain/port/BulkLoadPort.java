@@ -0,0 +1,31 @@
+package com.meimentor.customer.domain.port;
+
+import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.Transaction;
+
+import java.util.List;
+
+/**
+ * Port interface for loading large volumes of new customers with their history.
+ * 
+ * <p>Unlike {@link CustomerRepositoryPort} and {@link TransactionRepositoryPort}, which
+ * save one aggregate or one list at a time and read existing rollups back, this port only
+ * inserts: customers must be new, so their monthly rollups can be computed in memory and
+ * written alongside the transactions.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public interface BulkLoadPort {
+    
+    /**
+     * Inserts new customers, their transactions and the matching monthly rollups.
+     * 
+     * <p>Everything is written in one database transaction. Transactions are classified
+     * as they are written, like {@link TransactionRepositoryPort#saveAll(List)} does. The
+     * whole call fails, and nothing is written, if any customer or transaction already exists.</p>
+     * 
+     * @param customers the customers to insert, with their IDs already assigned
+     * @param transactions the transactions of those customers, with their IDs already assigned
+     */
+    void insertNewCustomers(List<Customer> customers, List<Transaction> transactions);
+}
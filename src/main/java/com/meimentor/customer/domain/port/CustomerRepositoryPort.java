@@ -2,8 +2,11 @@ package com.meimentor.customer.domain.port;
 
 import com.meimentor.customer.domain.model.Customer;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 /**
  * Port interface for Customer persistence operations.
@@ -39,6 +42,32 @@ public interface CustomerRepositoryPort {
      */
     Optional<Customer> findByCpf(String cpf);
     
+    /**
+     * Finds every customer whose CPF is in the given collection.
+     * 
+     * @param cpfs the customer CPFs
+     * @return customers found (unknown CPFs are simply absent)
+     */
+    List<Customer> findByCpfIn(Collection<String> cpfs);
+    
+    /**
+     * Finds the next page of customers inside an id range, in id order (keyset pagination).
+     * 
+     * @param rangeStart the first id of the range (inclusive)
+     * @param rangeEnd the last id of the range (inclusive)
+     * @param afterId resume strictly after this id, or null to start at {@code rangeStart}
+     * @param limit the maximum number of customers to return
+     * @return customers ordered by id
+     */
+    List<Customer> findPageInIdRange(UUID rangeStart, UUID rangeEnd, UUID afterId, int limit);
+    
+    /**
+     * Streams the CPF and ID of every customer without loading the customers themselves.
+     * 
+     * @param consumer receives each CPF with its customer ID
+     */
+    void forEachCpf(BiConsumer<String, UUID> consumer);
+    
     /**
      * Checks if a customer exists by CPF.
      * 
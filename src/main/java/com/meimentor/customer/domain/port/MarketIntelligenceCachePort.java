@@ -0,0 +1,31 @@
+package com.meimentor.customer.domain.port;
+
+import com.meimentor.customer.domain.model.MarketIntelligenceTemplate;
+
+import java.util.Optional;
+
+/**
+ * Port interface for the cache of AI-generated market intelligence templates.
+ * 
+ * <p>Templates are keyed by model and probable activity, so one AI call serves
+ * every customer of the same niche until the entry expires.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public interface MarketIntelligenceCachePort {
+    
+    /**
+     * Finds a non-expired template, counting the AI call and tokens it saves.
+     * 
+     * @param key the cache key
+     * @return Optional containing the template if cached and still valid
+     */
+    Optional<MarketIntelligenceTemplate> find(String key);
+    
+    /**
+     * Stores a template, evicting the least recently used one if the cache is full.
+     * 
+     * @param template the template to store
+     */
+    void put(MarketIntelligenceTemplate template);
+}
@@ -0,0 +1,45 @@
+package com.meimentor.customer.domain.port;
+
+import com.meimentor.customer.domain.model.MonthlyRollup;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port interface for reading per-customer monthly transaction rollups.
+ * 
+ * <p>Rollups are written by the transaction persistence adapter whenever transactions
+ * are saved; this port only exposes them for analysis.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public interface MonthlyRollupRepositoryPort {
+    
+    /**
+     * Finds all monthly rollups of a customer.
+     * 
+     * @param customerId the customer ID
+     * @return rollups ordered by month
+     */
+    List<MonthlyRollup> findByCustomerId(UUID customerId);
+    
+    /**
+     * Finds the monthly rollups of many customers at once.
+     * 
+     * @param customerIds the customer IDs
+     * @return rollups grouped by customer ID; customers without rollups are absent
+     */
+    Map<UUID, List<MonthlyRollup>> findByCustomerIdIn(Collection<UUID> customerIds);
+    
+    /**
+     * Finds when transactions were last ingested for a customer.
+     * 
+     * @param customerId the customer ID
+     * @return Optional containing the last rollup update time, empty if the customer has no transactions
+     */
+    Optional<Instant> findLastUpdatedAt(UUID customerId);
+}
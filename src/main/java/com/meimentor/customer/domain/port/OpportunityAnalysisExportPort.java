@@ -0,0 +1,27 @@
+package com.meimentor.customer.domain.port;
+
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+
+import java.util.function.Consumer;
+
+/**
+ * Port interface for bulk export of opportunity analyses.
+ * 
+ * <p>Unlike {@link OpportunityAnalysisRepositoryPort}, which loads one customer at a time,
+ * this port streams the whole table in a single forward-only pass.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public interface OpportunityAnalysisExportPort {
+    
+    /**
+     * Streams every analysis, with its market intelligence when present, to a consumer.
+     * 
+     * <p>Rows are handed over one at a time and not retained, so memory use does not
+     * depend on the number of analyses. Order is unspecified.</p>
+     * 
+     * @param consumer receives each analysis; exceptions it throws abort the export
+     * @return the number of analyses exported
+     */
+    long forEachAnalysis(Consumer<OpportunityAnalysis> consumer);
+}
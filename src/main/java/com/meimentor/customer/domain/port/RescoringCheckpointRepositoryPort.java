@@ -0,0 +1,41 @@
+package com.meimentor.customer.domain.port;
+
+import com.meimentor.customer.domain.model.RescoringCheckpoint;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port interface for portfolio re-scoring checkpoints.
+ * 
+ * <p>A job is identified by the checkpoints of its partitions; it is unfinished while
+ * any of them is not completed.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public interface RescoringCheckpointRepositoryPort {
+    
+    /**
+     * Saves (inserts or replaces) the checkpoint of a partition.
+     * 
+     * @param checkpoint the checkpoint to save
+     * @return the saved checkpoint
+     */
+    RescoringCheckpoint save(RescoringCheckpoint checkpoint);
+    
+    /**
+     * Finds every partition checkpoint of a job.
+     * 
+     * @param jobId the job ID
+     * @return checkpoints ordered by partition (empty if the job is unknown)
+     */
+    List<RescoringCheckpoint> findByJobId(UUID jobId);
+    
+    /**
+     * Finds the most recently updated job that still has incomplete partitions.
+     * 
+     * @return Optional containing the job ID if one exists
+     */
+    Optional<UUID> findLatestIncompleteJobId();
+}
@@ -1,9 +1,12 @@
 package com.meimentor.customer.domain.port;
 
+import com.meimentor.customer.domain.model.MonthlyRollup;
 import com.meimentor.customer.domain.model.Transaction;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -19,6 +22,10 @@ public interface TransactionRepositoryPort {
     /**
      * Saves a transaction.
      * 
+     * <p>The transaction is classified on write; its commercial flag and activity
+     * category are persisted alongside it, and the customer's monthly rollup
+     * is updated in the same transaction.</p>
+     * 
      * @param transaction the transaction to save
      * @return the saved transaction
      */
@@ -32,6 +39,18 @@ public interface TransactionRepositoryPort {
      */
     List<Transaction> saveAll(List<Transaction> transactions);
     
+    /**
+     * Inserts new transactions without reading them back.
+     * 
+     * <p>Meant for high-volume ingestion: rows are written in list order with JDBC batches
+     * and classified on write, and the customers' monthly rollups are updated in the same
+     * transaction. Transactions without an ID get one assigned.</p>
+     * 
+     * @param transactions the transactions to insert
+     * @return the number of transactions inserted
+     */
+    int insertAll(List<Transaction> transactions);
+    
     /**
      * Finds all transactions for a customer.
      * 
@@ -41,17 +60,33 @@ public interface TransactionRepositoryPort {
     List<Transaction> findByCustomerId(UUID customerId);
     
     /**
-     * Finds transactions for a customer within a date range.
+     * Aggregates the transactions of a customer within a date range into monthly buckets.
+     * 
+     * <p>Sums, counts, active days and activity hints are computed by the database from the
+     * classification stored at ingestion, so only one row per month is read back, however many
+     * transactions the range holds. Buckets have the same figures as the stored
+     * {@link MonthlyRollup}s, but cover only the part of each month inside the range.</p>
      * 
      * @param customerId the customer ID
      * @param startDate the start date (inclusive)
      * @param endDate the end date (inclusive)
-     * @return list of transactions
+     * @return monthly buckets ordered by month; months without transactions are absent
      */
-    List<Transaction> findByCustomerIdAndDateBetween(
-            UUID customerId, 
-            LocalDateTime startDate, 
+    List<MonthlyRollup> aggregateMonthly(UUID customerId, LocalDateTime startDate, LocalDateTime endDate);
+    
+    /**
+     * Aggregates the transactions of many customers within a date range into monthly buckets.
+     * 
+     * @param customerIds the customer IDs
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return monthly buckets ordered by month, grouped by customer ID; customers without
+     *         transactions in the range are absent
+     * @see #aggregateMonthly(UUID, LocalDateTime, LocalDateTime)
+     */
+    Map<UUID, List<MonthlyRollup>> aggregateMonthly(
+            Collection<UUID> customerIds,
+            LocalDateTime startDate,
             LocalDateTime endDate
     );
 }
-
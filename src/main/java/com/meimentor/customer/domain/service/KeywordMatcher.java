@@ -0,0 +1,232 @@
+package com.meimentor.customer.domain.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable multi-keyword matcher based on the Aho-Corasick automaton.
+ * 
+ * <p>Every keyword is registered under a category bit. Matching scans the input
+ * once, folding case and Latin-1 accents on the fly ("Serviço" matches "servico"),
+ * and returns the bitmask of categories whose keywords occur in the text.
+ * No intermediate strings are built. Instances are thread-safe.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public final class KeywordMatcher {
+    
+    private static final int ALL_CATEGORIES = -1;
+    private static final char[] FOLD_TABLE = buildFoldTable();
+    
+    private final byte[] charClasses;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[] outputs;
+    
+    private KeywordMatcher(byte[] charClasses, int alphabetSize, int[] transitions, int[] outputs) {
+        this.charClasses = charClasses;
+        this.alphabetSize = alphabetSize;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+    
+    /**
+     * Creates a new builder.
+     * 
+     * @return an empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Finds every category with at least one keyword in the text.
+     * 
+     * @param text the text to scan (may be null)
+     * @return bitmask of matched categories (0 if none)
+     */
+    public int match(CharSequence text) {
+        return match(text, ALL_CATEGORIES);
+    }
+    
+    /**
+     * Scans the text, stopping as soon as every category in {@code stopMask} has matched.
+     * 
+     * @param text the text to scan (may be null)
+     * @param stopMask categories that end the scan early once all are found
+     * @return bitmask of categories matched up to the point the scan stopped
+     */
+    public int match(CharSequence text, int stopMask) {
+        if (text == null) {
+            return 0;
+        }
+        
+        int state = 0;
+        int hits = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            int charClass = c < charClasses.length ? charClasses[c] : 0;
+            state = transitions[state * alphabetSize + charClass];
+            int output = outputs[state];
+            if (output != 0) {
+                hits |= output;
+                if ((hits & stopMask) == stopMask) {
+                    return hits;
+                }
+            }
+        }
+        return hits;
+    }
+    
+    /**
+     * Folds a character to lowercase without diacritics.
+     * 
+     * @param c the character to fold
+     * @return the folded character
+     */
+    static char fold(char c) {
+        return c < FOLD_TABLE.length ? FOLD_TABLE[c] : Character.toLowerCase(c);
+    }
+    
+    private static char[] buildFoldTable() {
+        char[] table = new char[256];
+        for (int c = 0; c < table.length; c++) {
+            table[c] = Character.toLowerCase((char) c);
+        }
+        
+        String accented = "àáâãäåçèéêëìíîïñòóôõöùúûüýÿ";
+        String plain = "aaaaaaceeeeiiiinooooouuuuyy";
+        for (int i = 0; i < accented.length(); i++) {
+            char lower = accented.charAt(i);
+            char upper = Character.toUpperCase(lower);
+            table[lower] = plain.charAt(i);
+            if (upper < table.length) {
+                table[upper] = plain.charAt(i);
+            }
+        }
+        return table;
+    }
+    
+    /**
+     * Builder collecting keywords before the automaton is compiled.
+     */
+    public static final class Builder {
+        
+        private final Map<String, Integer> keywords = new HashMap<>();
+        
+        private Builder() {
+        }
+        
+        /**
+         * Registers keywords under a category bit.
+         * 
+         * @param category the category bit (a single power of two)
+         * @param words the keywords; matching ignores case and accents
+         * @return this builder
+         * @throws IllegalArgumentException if category is not a single bit or a keyword is blank
+         */
+        public Builder add(int category, String... words) {
+            if (Integer.bitCount(category) != 1) {
+                throw new IllegalArgumentException("Category must be a single bit: " + category);
+            }
+            for (String word : words) {
+                if (word == null || word.isBlank()) {
+                    throw new IllegalArgumentException("Keyword cannot be blank");
+                }
+                keywords.merge(foldAll(word), category, (a, b) -> a | b);
+            }
+            return this;
+        }
+        
+        /**
+         * Compiles the registered keywords into an immutable matcher.
+         * 
+         * @return the compiled matcher
+         */
+        public KeywordMatcher build() {
+            // Map every folded character used by a keyword to a dense class; class 0 is "other"
+            byte[] charClasses = new byte[FOLD_TABLE.length];
+            int alphabetSize = 1;
+            for (String word : keywords.keySet()) {
+                for (int i = 0; i < word.length(); i++) {
+                    char c = word.charAt(i);
+                    if (c >= FOLD_TABLE.length) {
+                        throw new IllegalArgumentException("Unsupported keyword character: " + c);
+                    }
+                    if (charClasses[c] == 0) {
+                        charClasses[c] = (byte) alphabetSize++;
+                    }
+                }
+            }
+            if (alphabetSize > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many distinct keyword characters");
+            }
+            for (int c = 0; c < charClasses.length; c++) {
+                charClasses[c] = charClasses[FOLD_TABLE[c]];
+            }
+            
+            // Trie construction
+            List<int[]> trie = new ArrayList<>();
+            List<Integer> trieOutputs = new ArrayList<>();
+            trie.add(new int[alphabetSize]);
+            trieOutputs.add(0);
+            for (Map.Entry<String, Integer> entry : keywords.entrySet()) {
+                int state = 0;
+                for (char c : entry.getKey().toCharArray()) {
+                    int charClass = charClasses[c];
+                    if (trie.get(state)[charClass] == 0) {
+                        trie.get(state)[charClass] = trie.size();
+                        trie.add(new int[alphabetSize]);
+                        trieOutputs.add(0);
+                    }
+                    state = trie.get(state)[charClass];
+                }
+                trieOutputs.set(state, trieOutputs.get(state) | entry.getValue());
+            }
+            
+            // Breadth-first pass turning the trie into a complete DFA via failure links
+            int states = trie.size();
+            int[] transitions = new int[states * alphabetSize];
+            int[] outputs = new int[states];
+            int[] failure = new int[states];
+            Deque<Integer> queue = new ArrayDeque<>();
+            
+            for (int charClass = 1; charClass < alphabetSize; charClass++) {
+                int next = trie.get(0)[charClass];
+                transitions[charClass] = next;
+                if (next != 0) {
+                    queue.add(next);
+                }
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                outputs[state] = trieOutputs.get(state) | outputs[failure[state]];
+                for (int charClass = 1; charClass < alphabetSize; charClass++) {
+                    int next = trie.get(state)[charClass];
+                    int fallback = transitions[failure[state] * alphabetSize + charClass];
+                    if (next != 0) {
+                        failure[next] = fallback;
+                        transitions[state * alphabetSize + charClass] = next;
+                        queue.add(next);
+                    } else {
+                        transitions[state * alphabetSize + charClass] = fallback;
+                    }
+                }
+            }
+            
+            return new KeywordMatcher(charClasses, alphabetSize, transitions, outputs);
+        }
+        
+        private static String foldAll(String word) {
+            char[] chars = word.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = fold(chars[i]);
+            }
+            return new String(chars);
+        }
+    }
+}
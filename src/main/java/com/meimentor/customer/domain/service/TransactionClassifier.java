@@ -0,0 +1,119 @@
+package com.meimentor.customer.domain.service;
+
+import com.meimentor.customer.domain.model.ActivityCategory;
+
+/**
+ * Shared keyword classifier for transaction descriptions and activity labels.
+ * 
+ * <p>A single precompiled {@link KeywordMatcher} recognises both the commercial
+ * keywords and the {@link ActivityCategory} keywords, so one scan of a description
+ * yields everything scoring needs. The result is a classification mask: the low
+ * bits are activity hints ({@link ActivityCategory#mask()}) and
+ * {@link #COMMERCIAL} flags a commercial pattern.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public final class TransactionClassifier {
+    
+    /**
+     * Classification bit set when a description matches a commercial keyword.
+     */
+    public static final int COMMERCIAL = 1 << 16;
+    
+    private static final int ACTIVITY_MASK = activityMask();
+    private static final int ALL = COMMERCIAL | ACTIVITY_MASK;
+    
+    private static final KeywordMatcher MATCHER = buildMatcher();
+    
+    private TransactionClassifier() {
+    }
+    
+    /**
+     * Classifies a description in one pass.
+     * 
+     * @param description the transaction description (may be null)
+     * @return classification mask
+     */
+    public static int classify(CharSequence description) {
+        return MATCHER.match(description, ALL);
+    }
+    
+    /**
+     * Checks whether a description matches a commercial pattern.
+     * 
+     * @param description the transaction description (may be null)
+     * @return true if a commercial keyword occurs
+     */
+    public static boolean isCommercial(CharSequence description) {
+        return isCommercial(MATCHER.match(description, COMMERCIAL));
+    }
+    
+    /**
+     * Checks the commercial flag of a classification mask.
+     * 
+     * @param classification the classification mask
+     * @return true if the commercial bit is set
+     */
+    public static boolean isCommercial(int classification) {
+        return (classification & COMMERCIAL) != 0;
+    }
+    
+    /**
+     * Computes the activity hints for a description or activity label.
+     * 
+     * @param text the text to scan (may be null)
+     * @return bitmask of {@link ActivityCategory} values
+     */
+    public static int activityHints(CharSequence text) {
+        return activityHints(MATCHER.match(text, ACTIVITY_MASK));
+    }
+    
+    /**
+     * Extracts the activity hints of a classification mask.
+     * 
+     * @param classification the classification mask
+     * @return bitmask of {@link ActivityCategory} values
+     */
+    public static int activityHints(int classification) {
+        return classification & ACTIVITY_MASK;
+    }
+    
+    /**
+     * Rebuilds a classification mask from its persisted parts.
+     * 
+     * @param commercial whether the transaction matched a commercial pattern
+     * @param category the resolved activity category (may be null)
+     * @return classification mask
+     */
+    public static int classification(boolean commercial, ActivityCategory category) {
+        return (commercial ? COMMERCIAL : 0) | (category != null ? category.mask() : 0);
+    }
+    
+    /**
+     * Resolves the highest-precedence activity of a text, stopping at the first
+     * keyword of the top category.
+     * 
+     * @param text the text to scan (may be null)
+     * @return the resolved category, or null if none matched
+     */
+    public static ActivityCategory probableActivity(CharSequence text) {
+        return ActivityCategory.fromHints(MATCHER.match(text, ActivityCategory.FOOD.mask()) & ACTIVITY_MASK);
+    }
+    
+    private static int activityMask() {
+        int mask = 0;
+        for (ActivityCategory category : ActivityCategory.values()) {
+            mask |= category.mask();
+        }
+        return mask;
+    }
+    
+    private static KeywordMatcher buildMatcher() {
+        KeywordMatcher.Builder builder = KeywordMatcher.builder()
+                .add(COMMERCIAL, "pix", "serviço", "venda", "pagamento", "recebimento", "cliente", "fornecedor");
+        for (ActivityCategory category : ActivityCategory.values()) {
+            builder.add(category.mask(), category.getKeywords());
+        }
+        return builder.build();
+    }
+}
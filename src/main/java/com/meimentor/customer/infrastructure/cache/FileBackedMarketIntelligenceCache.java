@@ -0,0 +1,215 @@
+package com.meimentor.customer.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meimentor.customer.domain.model.MarketIntelligenceTemplate;
+import com.meimentor.customer.domain.port.MarketIntelligenceCachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Size-bounded, TTL-based market intelligence cache persisted to a JSON file.
+ * 
+ * <p>Entries are kept in access order and the least recently used one is evicted once
+ * {@code enrichment.cache.max-size} is reached. The whole cache is rewritten atomically
+ * on every insertion (entries are few and insertions follow a multi-second AI call) and
+ * reloaded on startup, so cached niches survive restarts.</p>
+ * 
+ * <p>Hits are reported as {@code enrichment.cache.saved.calls} and
+ * {@code enrichment.cache.saved.tokens}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+@Slf4j
+public class FileBackedMarketIntelligenceCache implements MarketIntelligenceCachePort {
+    
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final Duration ttl;
+    private final int maxSize;
+    private final LinkedHashMap<String, MarketIntelligenceTemplate> entries;
+    
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter savedCalls;
+    private final Counter savedTokens;
+    
+    public FileBackedMarketIntelligenceCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${enrichment.cache.file:data/market-intelligence-cache.json}") Path file,
+            @Value("${enrichment.cache.ttl:P7D}") Duration ttl,
+            @Value("${enrichment.cache.max-size:500}") int maxSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        
+        this.hits = Counter.builder("enrichment.cache.lookups").tag("result", "hit")
+                .description("Market intelligence cache lookups").register(meterRegistry);
+        this.misses = Counter.builder("enrichment.cache.lookups").tag("result", "miss")
+                .description("Market intelligence cache lookups").register(meterRegistry);
+        this.savedCalls = Counter.builder("enrichment.cache.saved.calls")
+                .description("OpenAI calls avoided by the market intelligence cache").register(meterRegistry);
+        this.savedTokens = Counter.builder("enrichment.cache.saved.tokens")
+                .description("OpenAI tokens avoided by the market intelligence cache").register(meterRegistry);
+        meterRegistry.gauge("enrichment.cache.size", entries, map -> size());
+    }
+    
+    /**
+     * Loads the cache file written by a previous run, skipping expired entries.
+     */
+    @PostConstruct
+    void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            List<StoredTemplate> stored = objectMapper.readValue(
+                    file.toFile(), new TypeReference<List<StoredTemplate>>() { });
+            Instant now = Instant.now();
+            synchronized (entries) {
+                for (StoredTemplate storedTemplate : stored) {
+                    MarketIntelligenceTemplate template = storedTemplate.toDomain();
+                    if (!template.isExpired(now, ttl.toSeconds())) {
+                        entries.put(template.getKey(), template);
+                    }
+                }
+                trimToSize();
+            }
+            log.info("Loaded {} market intelligence templates from {}", size(), file);
+        } catch (IOException e) {
+            // A corrupt cache only costs AI calls; never block startup on it
+            log.warn("Ignoring unreadable market intelligence cache {}: {}", file, e.getMessage());
+        }
+    }
+    
+    @Override
+    public Optional<MarketIntelligenceTemplate> find(String key) {
+        MarketIntelligenceTemplate template;
+        synchronized (entries) {
+            template = entries.get(key);
+            if (template != null && template.isExpired(Instant.now(), ttl.toSeconds())) {
+                entries.remove(key);
+                template = null;
+            }
+        }
+        
+        if (template == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        savedCalls.increment();
+        savedTokens.increment(template.getTotalTokens());
+        return Optional.of(template);
+    }
+    
+    @Override
+    public synchronized void put(MarketIntelligenceTemplate template) {
+        List<StoredTemplate> snapshot = new ArrayList<>();
+        synchronized (entries) {
+            entries.put(template.getKey(), template);
+            trimToSize();
+            entries.values().forEach(entry -> snapshot.add(StoredTemplate.fromDomain(entry)));
+        }
+        // Written outside the entries lock so lookups never wait on disk I/O
+        persist(snapshot);
+    }
+    
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    
+    private void trimToSize() {
+        while (entries.size() > maxSize) {
+            String eldest = entries.keySet().iterator().next();
+            entries.remove(eldest);
+        }
+    }
+    
+    private void persist(List<StoredTemplate> snapshot) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to persist market intelligence cache to {}: {}", file, e.getMessage());
+        }
+    }
+    
+    /**
+     * On-disk form of a template.
+     */
+    private record StoredTemplate(
+            String key,
+            String businessNiche,
+            Integer digitalPresenceScore,
+            String estimatedMaturity,
+            String recommendedApproach,
+            String socialMediaPlatform,
+            Integer socialMediaFollowers,
+            Boolean hasGoogleMapsPresence,
+            long totalTokens,
+            Instant createdAt
+    ) {
+        
+        static StoredTemplate fromDomain(MarketIntelligenceTemplate template) {
+            return new StoredTemplate(
+                    template.getKey(),
+                    template.getBusinessNiche(),
+                    template.getDigitalPresenceScore(),
+                    template.getEstimatedMaturity(),
+                    template.getRecommendedApproach(),
+                    template.getSocialMediaPlatform(),
+                    template.getSocialMediaFollowers(),
+                    template.getHasGoogleMapsPresence(),
+                    template.getTotalTokens(),
+                    template.getCreatedAt()
+            );
+        }
+        
+        MarketIntelligenceTemplate toDomain() {
+            return MarketIntelligenceTemplate.builder()
+                    .key(key)
+                    .businessNiche(businessNiche)
+                    .digitalPresenceScore(digitalPresenceScore)
+                    .estimatedMaturity(estimatedMaturity)
+                    .recommendedApproach(recommendedApproach)
+                    .socialMediaPlatform(socialMediaPlatform)
+                    .socialMediaFollowers(socialMediaFollowers)
+                    .hasGoogleMapsPresence(hasGoogleMapsPresence)
+                    .totalTokens(totalTokens)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.meimentor.customer.domain.port.TransactionRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -23,9 +25,13 @@ import java.util.UUID;
  * - Profile B: Salaried employee (not a target)
  * - Profile C: High revenue (exceeds MEI limit, should suggest ME/EPP)</p>
  * 
+ * <p>Seeding is skipped when the profiles already exist (e.g. a file database kept between
+ * runs). Large capacity-test datasets come from {@link SyntheticDataSeeder}, which runs next.</p>
+ * 
  * @author MEI-Mentor Team
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @RequiredArgsConstructor
 @Slf4j
 public class DataSeeder implements CommandLineRunner {
@@ -35,6 +41,10 @@ public class DataSeeder implements CommandLineRunner {
     
     @Override
     public void run(String... args) {
+        if (customerRepository.existsByCpf("12345678901")) {
+            log.info("Sample profiles already present, skipping data seeding");
+            return;
+        }
         log.info("Starting data seeding...");
         
         createProfileA();
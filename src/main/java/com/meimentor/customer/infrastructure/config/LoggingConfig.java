@@ -0,0 +1,69 @@
+package com.meimentor.customer.infrastructure.config;
+
+import com.meimentor.customer.application.usecase.TraceSampling;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Configuration for per-request log sampling.
+ * 
+ * <p>Every request gets a trace ID (taken from {@code X-Request-Id} when the caller sends
+ * one, echoed back in the response) and a sampling decision: a fraction
+ * {@code logging.trace-sampling.rate} of requests is sampled, and a caller can force it with
+ * {@code X-Trace-Sampled: true}. Both are put in the logging MDC for {@link TraceSampling}
+ * and the log pattern. Appenders themselves are asynchronous (see {@code logback-spring.xml}).</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Configuration
+public class LoggingConfig {
+    
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+    static final String SAMPLED_HEADER = "X-Trace-Sampled";
+    
+    @Bean
+    public TraceSamplingFilter traceSamplingFilter(
+            @Value("${logging.trace-sampling.rate:0.01}") double sampleRate,
+            @Value("${logging.payload.max-length:2000}") int maxPayloadLength
+    ) {
+        TraceSampling.configure(sampleRate, maxPayloadLength);
+        return new TraceSamplingFilter();
+    }
+    
+    /**
+     * Opens a {@link TraceSampling} scope around each request.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public static class TraceSamplingFilter extends OncePerRequestFilter {
+        
+        @Override
+        protected void doFilterInternal(
+                HttpServletRequest request,
+                HttpServletResponse response,
+                FilterChain chain
+        ) throws ServletException, IOException {
+            String traceId = request.getHeader(REQUEST_ID_HEADER);
+            if (traceId == null || traceId.isBlank() || traceId.length() > 64) {
+                traceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            }
+            String forced = request.getHeader(SAMPLED_HEADER);
+            boolean sampled = forced != null ? Boolean.parseBoolean(forced) : TraceSampling.sample();
+            
+            response.setHeader(REQUEST_ID_HEADER, traceId);
+            try (TraceSampling.Scope scope = TraceSampling.begin(traceId, sampled)) {
+                chain.doFilter(request, response);
+            }
+        }
+    }
+}
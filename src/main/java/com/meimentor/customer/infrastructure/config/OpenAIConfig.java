@@ -1,11 +1,18 @@
 package com.meimentor.customer.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meimentor.customer.infrastructure.openai.FakeChatCompletionServer;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import retrofit2.Retrofit;
+
 import java.time.Duration;
 
 /**
@@ -15,7 +22,17 @@ import java.time.Duration;
  * - OPENAI_API_KEY: The OpenAI API key (required)
  * - OPENAI_MODEL: The model to use (default: gpt-4o-mini)
  * - OPENAI_TEMPERATURE: Temperature for responses (default: 0.0)
- * - OPENAI_MAX_TOKENS: Maximum tokens in response (default: 1000)</p>
+ * - OPENAI_MAX_TOKENS: Maximum tokens in response (default: 1000)
+ * - OPENAI_TIMEOUT: Longest wait for one completion (default: PT30S)
+ * - OPENAI_MAX_CONCURRENT: Completions allowed in flight at once (default: 16)
+ * - OPENAI_BASE_URL: Alternative endpoint speaking the OpenAI API (default: api.openai.com)</p>
+ * 
+ * <p>The {@code openai.circuit.*} properties tune the circuit breaker that skips OpenAI
+ * after repeated failures; {@code openai.batch.*} tune the micro-batching of concurrent
+ * enrichment prompts into one completion.</p>
+ * 
+ * <p>With {@code openai.fake.enabled=true} the client talks to the embedded
+ * {@link FakeChatCompletionServer} instead, without needing an API key.</p>
  * 
  * @author MEI-Mentor Team
  */
@@ -26,6 +43,9 @@ public class OpenAIConfig {
     @Value("${openai.api.key:}")
     private String apiKey;
     
+    @Value("${openai.base-url:}")
+    private String baseUrl;
+    
     @Value("${openai.model:gpt-4o-mini}")
     private String model;
     
@@ -35,13 +55,42 @@ public class OpenAIConfig {
     @Value("${openai.max.tokens:1000}")
     private Integer maxTokens;
     
+    @Value("${openai.timeout:PT30S}")
+    private Duration timeout = Duration.ofSeconds(30);
+    
+    @Value("${openai.bulkhead.max-concurrent:16}")
+    private int maxConcurrentCalls = 16;
+    
+    @Value("${openai.bulkhead.max-wait:PT0.5S}")
+    private Duration maxBulkheadWait = Duration.ofMillis(500);
+    
+    @Value("${openai.circuit.failure-threshold:5}")
+    private int circuitFailureThreshold = 5;
+    
+    @Value("${openai.circuit.open-duration:PT30S}")
+    private Duration circuitOpenDuration = Duration.ofSeconds(30);
+    
+    @Value("${openai.batch.max-size:8}")
+    private int batchMaxSize = 8;
+    
+    @Value("${openai.batch.window:PT0.02S}")
+    private Duration batchWindow = Duration.ofMillis(20);
+    
     /**
      * Creates OpenAiService bean if API key is configured.
      * 
+     * @param fakeServer the embedded fake OpenAI server, when enabled
      * @return OpenAiService instance or null if API key is not configured
      */
     @Bean
-    public OpenAiService openAiService() {
+    public OpenAiService openAiService(ObjectProvider<FakeChatCompletionServer> fakeServer) {
+        FakeChatCompletionServer fake = fakeServer.getIfAvailable();
+        if (fake != null) {
+            apiKey = "fake-key";
+            baseUrl = fake.getBaseUrl();
+            log.warn("🧪 OpenAI client apontando para o servidor fake em {}", baseUrl);
+        }
+        
         // Try to get from environment variable if not set via properties
         if ((apiKey == null || apiKey.isBlank()) && System.getenv("OPENAI_API_KEY") != null) {
             apiKey = System.getenv("OPENAI_API_KEY");
@@ -86,7 +135,17 @@ public class OpenAIConfig {
         log.info("   Temperature: {}", temperature);
         log.info("   Max Tokens: {}", maxTokens);
         
-        return new OpenAiService(apiKey, Duration.ofSeconds(30));
+        if (baseUrl == null || baseUrl.isBlank()) {
+            return new OpenAiService(apiKey, timeout);
+        }
+        
+        log.info("   Base URL: {}", baseUrl);
+        ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+        OkHttpClient client = OpenAiService.defaultClient(apiKey, timeout);
+        Retrofit retrofit = OpenAiService.defaultRetrofit(client, mapper).newBuilder()
+                .baseUrl(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/")
+                .build();
+        return new OpenAiService(retrofit.create(OpenAiApi.class), client.dispatcher().executorService());
     }
     
     /**
@@ -116,6 +175,69 @@ public class OpenAIConfig {
         return maxTokens;
     }
     
+    /**
+     * Gets the longest wait for one completion.
+     * 
+     * @return call timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+    
+    /**
+     * Gets the number of completions allowed in flight at once.
+     * 
+     * @return bulkhead size
+     */
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+    
+    /**
+     * Gets how long a call waits for a free bulkhead slot before falling back.
+     * 
+     * @return bulkhead wait
+     */
+    public Duration getMaxBulkheadWait() {
+        return maxBulkheadWait;
+    }
+    
+    /**
+     * Gets the number of consecutive failures that opens the circuit.
+     * 
+     * @return failure threshold
+     */
+    public int getCircuitFailureThreshold() {
+        return circuitFailureThreshold;
+    }
+    
+    /**
+     * Gets how long the circuit stays open before a trial call.
+     * 
+     * @return open duration
+     */
+    public Duration getCircuitOpenDuration() {
+        return circuitOpenDuration;
+    }
+    
+    /**
+     * Gets the most customers sent in one batched completion.
+     * 
+     * @return batch size (1 disables batching)
+     */
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+    
+    /**
+     * Gets how long a batch collects prompts before it is sent.
+     * 
+     * @return batch window
+     */
+    public Duration getBatchWindow() {
+        return batchWindow;
+    }
+    
     /**
      * Checks if OpenAI is enabled.
      * 
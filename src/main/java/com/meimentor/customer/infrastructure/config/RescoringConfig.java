@@ -0,0 +1,43 @@
+package com.meimentor.customer.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the portfolio re-scoring pipeline.
+ * 
+ * <p>Each stage has its own worker count and a bounded input queue, so a slow
+ * stage (typically enrichment) back-pressures the stages before it instead of
+ * buffering the whole portfolio in memory.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Configuration
+@Getter
+public class RescoringConfig {
+    
+    @Value("${rescoring.partitions:16}")
+    private int partitions;
+    
+    @Value("${rescoring.page-size:200}")
+    private int pageSize;
+    
+    @Value("${rescoring.queue-capacity:512}")
+    private int queueCapacity;
+    
+    @Value("${rescoring.load.parallelism:4}")
+    private int loadParallelism;
+    
+    @Value("${rescoring.classify.parallelism:2}")
+    private int classifyParallelism;
+    
+    @Value("${rescoring.score.parallelism:2}")
+    private int scoreParallelism;
+    
+    @Value("${rescoring.enrich.parallelism:32}")
+    private int enrichParallelism;
+    
+    @Value("${rescoring.persist.parallelism:8}")
+    private int persistParallelism;
+}
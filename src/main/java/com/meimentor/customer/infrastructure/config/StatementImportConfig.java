@@ -0,0 +1,35 @@
+package com.meimentor.customer.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the statement file importer.
+ * 
+ * <p>Files are read from {@code import.directory} only. Each file is split into chunks of
+ * about {@code import.chunk-size}; {@code import.parallelism} chunks are parsed at a time and
+ * all of them feed the same bulk ingestion writers.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Configuration
+@Getter
+public class StatementImportConfig {
+    
+    @Value("${import.directory:data/imports}")
+    private String directory;
+    
+    @Value("${import.chunk-size:64MB}")
+    private DataSize chunkSize;
+    
+    @Value("${import.parallelism:4}")
+    private int parallelism;
+    
+    @Value("${import.charset:UTF-8}")
+    private String charset;
+    
+    @Value("${import.csv.delimiter:,}")
+    private char csvDelimiter;
+}
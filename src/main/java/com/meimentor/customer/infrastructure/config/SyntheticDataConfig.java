@@ -0,0 +1,82 @@
+package com.meimentor.customer.infrastructure.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the synthetic capacity-test dataset.
+ * 
+ * <p>Customers are drawn from the three seeded profiles (target, salaried and high revenue)
+ * with the {@code seed.synthetic.mix.*} weights. Commercial customers get an activity from
+ * the {@code seed.synthetic.activity.*} weights, a log-normal monthly revenue around the
+ * profile median and a Pix count per month around the profile mean. The same
+ * {@code seed.synthetic.seed} always produces the same customers, IDs and amounts, whatever
+ * the thread count.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Configuration
+@Getter
+public class SyntheticDataConfig {
+    
+    @Value("${seed.synthetic.customers:0}")
+    private long customers;
+    
+    @Value("${seed.synthetic.seed:42}")
+    private long seed;
+    
+    @Value("${seed.synthetic.months:3}")
+    private int months;
+    
+    /**
+     * Last month of history (yyyy-MM, exclusive); blank means the current month.
+     */
+    @Value("${seed.synthetic.until:}")
+    private String until;
+    
+    @Value("${seed.synthetic.threads:4}")
+    private int threads;
+    
+    @Value("${seed.synthetic.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${seed.synthetic.exit:false}")
+    private boolean exitWhenDone;
+    
+    @Value("${seed.synthetic.mix.target:0.6}")
+    private double targetWeight;
+    
+    @Value("${seed.synthetic.mix.salaried:0.3}")
+    private double salariedWeight;
+    
+    @Value("${seed.synthetic.mix.high-revenue:0.1}")
+    private double highRevenueWeight;
+    
+    @Value("${seed.synthetic.activity.food:0.5}")
+    private double foodWeight;
+    
+    @Value("${seed.synthetic.activity.tech:0.3}")
+    private double techWeight;
+    
+    @Value("${seed.synthetic.activity.commerce:0.2}")
+    private double commerceWeight;
+    
+    @Value("${seed.synthetic.revenue.target:5000}")
+    private double targetRevenueMedian;
+    
+    @Value("${seed.synthetic.revenue.high-revenue:20000}")
+    private double highRevenueMedian;
+    
+    @Value("${seed.synthetic.revenue.salary:3500}")
+    private double salaryMedian;
+    
+    @Value("${seed.synthetic.revenue.sigma:0.5}")
+    private double revenueSigma;
+    
+    @Value("${seed.synthetic.pix-per-month.target:40}")
+    private double targetPixPerMonth;
+    
+    @Value("${seed.synthetic.pix-per-month.high-revenue:20}")
+    private double highRevenuePixPerMonth;
+}
@@ -0,0 +1,271 @@
+package com.meimentor.customer.infrastructure.config;
+
+import com.meimentor.customer.domain.model.ActivityCategory;
+import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Generates synthetic customers and transactions modelled on the three seeded profiles.
+ * 
+ * <p>Customer {@code n} is a pure function of the seed and {@code n}: it gets its own random
+ * stream, its CPF is {@code 7} followed by {@code n} on ten digits, and its IDs come from the
+ * same stream. Any range of customers can therefore be generated on any thread, in any order,
+ * and still produce the same dataset.</p>
+ * 
+ * <ul>
+ *   <li>Target (Profile A): recurring Pix sales of one activity, a few expenses</li>
+ *   <li>Salaried (Profile B): one salary per month, supermarket expenses</li>
+ *   <li>High revenue (Profile C): fewer, larger Pix payments, above the MEI limit by default</li>
+ * </ul>
+ * 
+ * @author MEI-Mentor Team
+ */
+public class SyntheticDataGenerator {
+    
+    static final String CPF_PREFIX = "7";
+    
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Henrique",
+            "Isabela", "João", "Larissa", "Marcos", "Natália", "Otávio", "Paula", "Rafael"
+    };
+    
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Lima", "Pereira", "Costa", "Almeida",
+            "Ferreira", "Rodrigues", "Gomes", "Martins", "Araújo", "Barbosa", "Ribeiro", "Carvalho"
+    };
+    
+    /**
+     * Customer profile a synthetic customer is drawn from.
+     */
+    enum Profile {
+        TARGET,
+        SALARIED,
+        HIGH_REVENUE
+    }
+    
+    private final SyntheticDataConfig config;
+    private final long seed;
+    private final YearMonth firstMonth;
+    private final int months;
+    private final double[] profileWeights;
+    private final double[] activityWeights;
+    
+    public SyntheticDataGenerator(SyntheticDataConfig config) {
+        YearMonth until = config.getUntil().isBlank() ? YearMonth.now() : YearMonth.parse(config.getUntil());
+        this.config = config;
+        this.seed = config.getSeed();
+        this.months = config.getMonths();
+        this.firstMonth = until.minusMonths(months);
+        this.profileWeights = cumulative(
+                config.getTargetWeight(), config.getSalariedWeight(), config.getHighRevenueWeight());
+        this.activityWeights = cumulative(
+                config.getFoodWeight(), config.getTechWeight(), config.getCommerceWeight());
+    }
+    
+    /**
+     * Generates the customers of an index range with their full history.
+     * 
+     * @param fromIndex the first customer index (inclusive)
+     * @param toIndex the last customer index (exclusive)
+     * @return the generated customers and transactions
+     */
+    public Chunk generate(long fromIndex, long toIndex) {
+        int size = (int) (toIndex - fromIndex);
+        List<Customer> customers = new ArrayList<>(size);
+        List<Transaction> transactions = new ArrayList<>(size * months * 16);
+        for (long index = fromIndex; index < toIndex; index++) {
+            generateCustomer(index, customers, transactions);
+        }
+        return new Chunk(customers, transactions);
+    }
+    
+    /**
+     * Builds the CPF of a synthetic customer.
+     * 
+     * @param index the customer index
+     * @return {@code 7} followed by the index on ten digits
+     */
+    public static String cpf(long index) {
+        String digits = Long.toString(index);
+        return CPF_PREFIX + "0".repeat(10 - digits.length()) + digits;
+    }
+    
+    private void generateCustomer(long index, List<Customer> customers, List<Transaction> transactions) {
+        SplittableRandom random = new SplittableRandom(customerSeed(seed, index));
+        UUID customerId = uuid(random);
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        Profile profile = Profile.values()[pick(random, profileWeights)];
+        
+        BigDecimal declaredIncome = switch (profile) {
+            case SALARIED -> salaried(random, customerId, transactions);
+            case TARGET -> commercial(random, customerId, transactions,
+                    config.getTargetRevenueMedian(), config.getTargetPixPerMonth(), 4, 0.4);
+            case HIGH_REVENUE -> commercial(random, customerId, transactions,
+                    config.getHighRevenueMedian(), config.getHighRevenuePixPerMonth(), 2, 0.25);
+        };
+        
+        customers.add(Customer.builder()
+                .id(customerId)
+                .name(name)
+                .cpf(cpf(index))
+                .declaredIncome(declaredIncome)
+                .build());
+    }
+    
+    private BigDecimal commercial(
+            SplittableRandom random,
+            UUID customerId,
+            List<Transaction> transactions,
+            double revenueMedian,
+            double pixPerMonth,
+            int debitsPerMonth,
+            double declaredShare
+    ) {
+        ActivityCategory activity = ActivityCategory.values()[pick(random, activityWeights)];
+        double revenueLevel = logNormal(random, revenueMedian);
+        
+        for (int m = 0; m < months; m++) {
+            YearMonth month = firstMonth.plusMonths(m);
+            double monthRevenue = revenueLevel * random.nextDouble(0.8, 1.2);
+            
+            long credits = Math.max(1, Math.round(pixPerMonth * random.nextDouble(0.5, 1.5)));
+            for (long c = 0; c < credits; c++) {
+                transactions.add(transaction(random, customerId, month, Transaction.TransactionType.CREDIT,
+                        monthRevenue / credits, creditDescription(activity)));
+            }
+            for (int d = 0; d < debitsPerMonth; d++) {
+                transactions.add(transaction(random, customerId, month, Transaction.TransactionType.DEBIT,
+                        monthRevenue * 0.3 / debitsPerMonth, debitDescription(activity)));
+            }
+        }
+        return money(revenueLevel * declaredShare);
+    }
+    
+    private BigDecimal salaried(SplittableRandom random, UUID customerId, List<Transaction> transactions) {
+        BigDecimal salary = money(Math.rint(logNormal(random, config.getSalaryMedian())));
+        
+        for (int m = 0; m < months; m++) {
+            YearMonth month = firstMonth.plusMonths(m);
+            transactions.add(Transaction.builder()
+                    .id(uuid(random))
+                    .customerId(customerId)
+                    .date(month.atDay(5).atTime(9, 0))
+                    .amount(salary)
+                    .type(Transaction.TransactionType.CREDIT)
+                    .description("Salário mensal")
+                    .build());
+            for (int d = 0; d < 5; d++) {
+                transactions.add(transaction(random, customerId, month, Transaction.TransactionType.DEBIT,
+                        salary.doubleValue() * 0.4 / 5, "Compra no supermercado"));
+            }
+        }
+        return salary;
+    }
+    
+    private static Transaction transaction(
+            SplittableRandom random,
+            UUID customerId,
+            YearMonth month,
+            Transaction.TransactionType type,
+            double meanAmount,
+            String description
+    ) {
+        LocalDateTime date = month.atDay(1 + random.nextInt(month.lengthOfMonth()))
+                .atTime(random.nextInt(7, 22), random.nextInt(60));
+        return Transaction.builder()
+                .id(uuid(random))
+                .customerId(customerId)
+                .date(date)
+                .amount(money(Math.max(1, meanAmount * random.nextDouble(0.5, 1.5))))
+                .type(type)
+                .description(description)
+                .build();
+    }
+    
+    private static String creditDescription(ActivityCategory activity) {
+        return switch (activity) {
+            case FOOD -> "Pix recebido - venda de doces";
+            case TECH -> "Pix recebido - serviço prestado";
+            case COMMERCE -> "Pix recebido - recebimento de cliente";
+        };
+    }
+    
+    private static String debitDescription(ActivityCategory activity) {
+        return switch (activity) {
+            case FOOD -> "Compra de ingredientes";
+            case TECH -> "Assinatura de software";
+            case COMMERCE -> "Pagamento de fornecedor";
+        };
+    }
+    
+    /**
+     * Scrambles the seed of a customer stream. The streams advance by the golden gamma, so
+     * seeds a multiple of it apart would replay each other's values shifted by one customer.
+     */
+    private static long customerSeed(long seed, long index) {
+        long z = seed + index * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+    
+    private double logNormal(SplittableRandom random, double median) {
+        return median * Math.exp(config.getRevenueSigma() * random.nextGaussian());
+    }
+    
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(Math.round(value * 100), 2);
+    }
+    
+    private static UUID uuid(SplittableRandom random) {
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+    
+    private static int pick(SplittableRandom random, double[] cumulativeWeights) {
+        double draw = random.nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length - 1; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+    
+    private static double[] cumulative(double... weights) {
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Synthetic data weights must not be negative");
+            }
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one synthetic data weight must be positive");
+        }
+        return cumulative;
+    }
+    
+    /**
+     * Customers of one index range and all their transactions.
+     * 
+     * @param customers the generated customers
+     * @param transactions the transactions of those customers
+     */
+    public record Chunk(List<Customer> customers, List<Transaction> transactions) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.meimentor.customer.infrastructure.config;
+
+import com.meimentor.customer.domain.port.BulkLoadPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Startup mode that fills the database with a large synthetic dataset for capacity tests.
+ * 
+ * <p>Runs after {@link DataSeeder} when {@code seed.synthetic.customers} is positive. Customers
+ * are split into chunks of {@code seed.synthetic.chunk-size}; {@code seed.synthetic.threads}
+ * workers generate each chunk with {@link SyntheticDataGenerator} and write it through
+ * {@link BulkLoadPort} in JDBC batches. With {@code seed.synthetic.exit=true} the application
+ * exits once the dataset is written, which turns it into a command-line generator.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataSeeder implements CommandLineRunner {
+    
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    
+    private final SyntheticDataConfig config;
+    private final BulkLoadPort bulkLoadPort;
+    private final ConfigurableApplicationContext context;
+    
+    private final AtomicLong customersWritten = new AtomicLong();
+    private final AtomicLong transactionsWritten = new AtomicLong();
+    private final AtomicLong lastProgressNanos = new AtomicLong();
+    
+    @Override
+    public void run(String... args) throws InterruptedException {
+        long customers = config.getCustomers();
+        if (customers <= 0) {
+            return;
+        }
+        
+        log.info("Generating {} synthetic customers ({} months, seed {}, {} threads)...",
+                customers, config.getMonths(), config.getSeed(), config.getThreads());
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(config);
+        long start = System.nanoTime();
+        lastProgressNanos.set(start);
+        
+        ExecutorService workers = Executors.newFixedThreadPool(config.getThreads());
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long from = 0; from < customers; from += config.getChunkSize()) {
+                long chunkStart = from;
+                long chunkEnd = Math.min(customers, from + config.getChunkSize());
+                chunks.add(workers.submit(() -> writeChunk(generator, chunkStart, chunkEnd, customers, start)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Synthetic data generation failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long rows = customersWritten.get() + transactionsWritten.get();
+        log.info("Synthetic data completed: {} customers, {} transactions in {}s ({} rows/s)",
+                customersWritten.get(), transactionsWritten.get(),
+                String.format("%.1f", seconds), Math.round(rows / Math.max(seconds, 1e-3)));
+        
+        if (config.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+    
+    private void writeChunk(SyntheticDataGenerator generator, long from, long to, long total, long start) {
+        SyntheticDataGenerator.Chunk chunk = generator.generate(from, to);
+        bulkLoadPort.insertNewCustomers(chunk.customers(), chunk.transactions());
+        
+        long customers = customersWritten.addAndGet(chunk.customers().size());
+        long transactions = transactionsWritten.addAndGet(chunk.transactions().size());
+        long now = System.nanoTime();
+        long last = lastProgressNanos.get();
+        if (now - last >= PROGRESS_INTERVAL_NANOS && lastProgressNanos.compareAndSet(last, now)) {
+            double seconds = (now - start) / 1e9;
+            log.info("Synthetic data: {}/{} customers, {} transactions ({} rows/s)",
+                    customers, total, transactions, Math.round((customers + transactions) / seconds));
+        }
+    }
+}
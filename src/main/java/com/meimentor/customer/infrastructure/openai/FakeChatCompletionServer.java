@@ -0,0 +1,277 @@
+package com.meimentor.customer.infrastructure.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.meimentor.customer.domain.model.ActivityCategory;
+import com.meimentor.customer.domain.service.TransactionClassifier;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded stand-in for the OpenAI chat-completions API, for offline load tests.
+ * 
+ * <p>Enabled with {@code openai.fake.enabled=true}; {@code OpenAIConfig} then points the
+ * OpenAI client at it, so the whole enrichment pipeline (guard, micro-batching, parsing,
+ * caching) runs without network access or an API key. Answers are function calls shaped
+ * like the real ones, with a plausible niche and score derived from each activity in the
+ * prompt.</p>
+ * 
+ * <p>Each request is delayed according to {@code openai.fake.latency.*}:
+ * - {@code FIXED}: always the median
+ * - {@code UNIFORM}: uniform between zero and twice the median
+ * - {@code LOG_NORMAL}: log-normal with the given median and 99th percentile (the default),
+ *   matching the long tail of a real completion API</p>
+ * 
+ * <p>{@code openai.fake.error-rate} and {@code openai.fake.rate-limit-rate} are the
+ * fractions of requests answered with HTTP 500 and HTTP 429 (with {@code Retry-After})
+ * respectively. Responses are counted in {@code openai.fake.responses{status}}.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+@ConditionalOnProperty(name = "openai.fake.enabled", havingValue = "true")
+@Slf4j
+public class FakeChatCompletionServer {
+    
+    private static final String COMPLETIONS_PATH = "/v1/chat/completions";
+    private static final double Z_99 = 2.3263; // Standard normal 99th percentile
+    private static final Pattern SINGLE_PROFILE = Pattern.compile("atividade provável de: ([^.]+)\\.");
+    private static final Pattern BATCH_PROFILE = Pattern.compile("(?m)^(\\d+)\\. Cliente: .*?; atividade provável: (.+)$");
+    
+    /**
+     * Shape of the simulated latency.
+     */
+    public enum LatencyDistribution {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+    
+    private final ObjectMapper objectMapper;
+    private final LatencyDistribution distribution;
+    private final Duration median;
+    private final double sigma;
+    private final double errorRate;
+    private final double rateLimitRate;
+    private final Duration retryAfter;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    
+    public FakeChatCompletionServer(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${openai.fake.port:0}") int port,
+            @Value("${openai.fake.latency.distribution:log_normal}") String distribution,
+            @Value("${openai.fake.latency.median:PT0.8S}") Duration median,
+            @Value("${openai.fake.latency.p99:PT4S}") Duration p99,
+            @Value("${openai.fake.error-rate:0.0}") double errorRate,
+            @Value("${openai.fake.rate-limit-rate:0.0}") double rateLimitRate,
+            @Value("${openai.fake.retry-after:PT1S}") Duration retryAfter
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.distribution = LatencyDistribution.valueOf(distribution.trim().toUpperCase(Locale.ROOT));
+        this.median = median;
+        this.sigma = p99.compareTo(median) > 0
+                ? Math.log((double) p99.toNanos() / median.toNanos()) / Z_99
+                : 0;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+        this.retryAfter = retryAfter;
+        
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+        log.warn("🧪 Fake OpenAI server listening on {} (latency {} median {} p99 {}, errors {}, 429s {})",
+                getBaseUrl(), this.distribution, median, p99, errorRate, rateLimitRate);
+    }
+    
+    /**
+     * Gets the base URL to configure the OpenAI client with.
+     * 
+     * @return base URL ending with a slash
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+    
+    @PreDestroy
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod()) || !COMPLETIONS_PATH.equals(exchange.getRequestURI().getPath())) {
+                respond(exchange, 404, error("Unknown endpoint " + exchange.getRequestURI().getPath(), "invalid_request_error"));
+                return;
+            }
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            sleep(latency());
+            
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rateLimitRate) {
+                exchange.getResponseHeaders().add("Retry-After", Long.toString(Math.max(1, retryAfter.toSeconds())));
+                respond(exchange, 429, error("Rate limit reached (simulated)", "rate_limit_exceeded"));
+            } else if (roll < rateLimitRate + errorRate) {
+                respond(exchange, 500, error("The server had an error (simulated)", "server_error"));
+            } else {
+                respond(exchange, 200, completion(request));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Fake OpenAI server failed to answer: {}", e.getMessage());
+        }
+    }
+    
+    private Duration latency() {
+        long medianNanos = median.toNanos();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (distribution) {
+            case FIXED -> median;
+            case UNIFORM -> Duration.ofNanos(random.nextLong(2 * medianNanos + 1));
+            case LOG_NORMAL -> Duration.ofNanos((long) (medianNanos * Math.exp(sigma * random.nextGaussian())));
+        };
+    }
+    
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Builds a completion answering the forced function of the request.
+     */
+    private ObjectNode completion(JsonNode request) throws IOException {
+        String prompt = lastMessage(request);
+        String function = request.path("function_call").path("name").asText(null);
+        
+        ObjectNode arguments;
+        Matcher batch = BATCH_PROFILE.matcher(prompt);
+        List<ObjectNode> profiles = new ArrayList<>();
+        while (batch.find()) {
+            ObjectNode profile = profile(batch.group(2).trim());
+            profile.put("index", Integer.parseInt(batch.group(1)));
+            profiles.add(profile);
+        }
+        if (!profiles.isEmpty()) {
+            arguments = objectMapper.createObjectNode();
+            ArrayNode array = arguments.putArray("profiles");
+            profiles.forEach(array::add);
+        } else {
+            Matcher single = SINGLE_PROFILE.matcher(prompt);
+            arguments = profile(single.find() ? single.group(1).trim() : "");
+        }
+        
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("role", "assistant");
+        message.putNull("content");
+        String serialisedArguments = objectMapper.writeValueAsString(arguments);
+        if (function != null) {
+            ObjectNode functionCall = message.putObject("function_call");
+            functionCall.put("name", function);
+            functionCall.put("arguments", serialisedArguments);
+        } else {
+            message.put("content", serialisedArguments);
+        }
+        
+        ObjectNode completion = objectMapper.createObjectNode();
+        completion.put("id", "chatcmpl-fake-" + Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        completion.put("object", "chat.completion");
+        completion.put("created", System.currentTimeMillis() / 1000);
+        completion.put("model", request.path("model").asText("fake"));
+        ObjectNode choice = completion.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.set("message", message);
+        choice.put("finish_reason", function != null ? "function_call" : "stop");
+        
+        // Roughly four characters per token, like the real tokenizer on Portuguese text
+        int promptTokens = prompt.length() / 4;
+        int completionTokens = serialisedArguments.length() / 4;
+        ObjectNode usage = completion.putObject("usage");
+        usage.put("prompt_tokens", promptTokens);
+        usage.put("completion_tokens", completionTokens);
+        usage.put("total_tokens", promptTokens + completionTokens);
+        return completion;
+    }
+    
+    private ObjectNode profile(String activity) {
+        ActivityCategory category = TransactionClassifier.probableActivity(activity);
+        int score = Math.floorMod(activity.hashCode(), 101);
+        
+        ObjectNode profile = objectMapper.createObjectNode();
+        profile.put("businessNiche", category != null ? category.getLabel() : activity);
+        profile.put("digitalPresenceScore", score);
+        profile.put("estimatedMaturity", score >= 70 ? "Em Expansão" : score >= 40 ? "Freelancer" : "Iniciante");
+        if (category == ActivityCategory.TECH) {
+            profile.put("socialMediaPlatform", "LinkedIn");
+            profile.putNull("socialMediaFollowers");
+        } else {
+            profile.put("socialMediaPlatform", "Instagram");
+            profile.put("socialMediaFollowers", score * 30);
+        }
+        profile.put("hasGoogleMapsPresence", category != ActivityCategory.TECH);
+        profile.put("recommendedApproach",
+                "Resposta simulada: destacar economia tributária e acesso a crédito da formalização MEI.");
+        return profile;
+    }
+    
+    private static String lastMessage(JsonNode request) {
+        JsonNode messages = request.path("messages");
+        return messages.size() > 0 ? messages.get(messages.size() - 1).path("content").asText("") : "";
+    }
+    
+    private ObjectNode error(String message, String type) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ObjectNode error = body.putObject("error");
+        error.put("message", message);
+        error.put("type", type);
+        error.putNull("param");
+        error.put("code", type);
+        return body;
+    }
+    
+    private void respond(HttpExchange exchange, int status, ObjectNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+        Counter.builder("openai.fake.responses")
+                .tag("status", Integer.toString(status))
+                .description("Responses sent by the fake OpenAI server")
+                .register(meterRegistry)
+                .increment();
+    }
+}
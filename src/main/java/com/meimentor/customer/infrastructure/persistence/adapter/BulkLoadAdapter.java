@@ -0,0 +1,94 @@
+package com.meimentor.customer.infrastructure.persistence.adapter;
+
+import com.meimentor.customer.domain.model.Customer;
+import com.meimentor.customer.domain.model.Transaction;
+import com.meimentor.customer.domain.port.BulkLoadPort;
+import com.meimentor.customer.infrastructure.persistence.entity.CustomerMonthlyRollupEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adapter implementation of BulkLoadPort using plain JDBC batch inserts.
+ * 
+ * <p>Rows are sent {@code bulk-load.batch-size} at a time with prepared-statement batches,
+ * one round-trip per batch instead of one per row, and nothing goes through the JPA
+ * persistence context. Since the customers are new, their rollups are folded in memory
+ * (with the same rules as {@link MonthlyRollupUpdater}) and inserted, never read back.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+public class BulkLoadAdapter implements BulkLoadPort {
+    
+    private static final String INSERT_CUSTOMER = """
+            INSERT INTO customers (id, name, cpf, declared_income) VALUES (?, ?, ?, ?)
+            """;
+    
+    private static final String INSERT_ROLLUP = """
+            INSERT INTO customer_monthly_rollup (id, customer_id, month_start, commercial_credit_sum,
+                commercial_credit_count, debit_sum, active_day_mask, distinct_day_count, activity_hints, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    
+    public BulkLoadAdapter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${bulk-load.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    @Transactional
+    public void insertNewCustomers(List<Customer> customers, List<Transaction> transactions) {
+        jdbcTemplate.batchUpdate(INSERT_CUSTOMER, customers, batchSize, (ps, customer) -> {
+            ps.setObject(1, customer.getId());
+            ps.setString(2, customer.getName());
+            ps.setString(3, customer.getCpf());
+            ps.setBigDecimal(4, customer.getDeclaredIncome());
+        });
+        
+        TransactionJdbcBatch.insert(jdbcTemplate, transactions, batchSize);
+        
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_ROLLUP, foldRollups(transactions), batchSize, (ps, rollup) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, rollup.getCustomerId());
+            ps.setObject(3, rollup.getMonthStart());
+            ps.setBigDecimal(4, rollup.getCommercialCreditSum());
+            ps.setLong(5, rollup.getCommercialCreditCount());
+            ps.setBigDecimal(6, rollup.getDebitSum());
+            ps.setInt(7, rollup.getActiveDayMask());
+            ps.setInt(8, rollup.getDistinctDayCount());
+            ps.setInt(9, rollup.getActivityHints());
+            ps.setTimestamp(10, updatedAt);
+        });
+    }
+    
+    private static List<CustomerMonthlyRollupEntity> foldRollups(List<Transaction> transactions) {
+        Map<UUID, Map<YearMonth, CustomerMonthlyRollupEntity>> rollups = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            YearMonth month = YearMonth.from(transaction.getDate());
+            CustomerMonthlyRollupEntity rollup = rollups
+                    .computeIfAbsent(transaction.getCustomerId(), id -> new HashMap<>())
+                    .computeIfAbsent(month, m -> CustomerMonthlyRollupEntity.empty(transaction.getCustomerId(), m));
+            MonthlyRollupUpdater.fold(rollup, transaction);
+        }
+        return rollups.values().stream()
+                .flatMap(byMonth -> byMonth.values().stream())
+                .toList();
+    }
+}
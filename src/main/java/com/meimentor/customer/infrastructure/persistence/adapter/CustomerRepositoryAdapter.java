@@ -5,10 +5,17 @@ import com.meimentor.customer.domain.port.CustomerRepositoryPort;
 import com.meimentor.customer.infrastructure.persistence.entity.CustomerEntity;
 import com.meimentor.customer.infrastructure.persistence.repository.CustomerJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 /**
  * Adapter implementation of CustomerRepositoryPort using JPA.
@@ -22,7 +29,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
     
+    private static final String SELECT_CPF_INDEX = "SELECT cpf, id FROM customers";
+    
     private final CustomerJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
     
     @Override
     public Customer save(Customer customer) {
@@ -43,6 +53,33 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
                 .map(CustomerEntity::toDomain);
     }
     
+    @Override
+    public List<Customer> findByCpfIn(Collection<String> cpfs) {
+        List<Customer> customers = new ArrayList<>(cpfs.size());
+        for (List<String> chunk : InClauseChunks.of(cpfs)) {
+            jpaRepository.findByCpfIn(chunk).forEach(entity -> customers.add(entity.toDomain()));
+        }
+        return customers;
+    }
+    
+    @Override
+    public List<Customer> findPageInIdRange(UUID rangeStart, UUID rangeEnd, UUID afterId, int limit) {
+        List<CustomerEntity> page = afterId == null
+                ? jpaRepository.findByIdBetweenOrderByIdAsc(rangeStart, rangeEnd, Limit.of(limit))
+                : jpaRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(afterId, rangeEnd, Limit.of(limit));
+        return page.stream()
+                .map(CustomerEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void forEachCpf(BiConsumer<String, UUID> consumer) {
+        // Plain JDBC: only two columns, never entities in the persistence context
+        jdbcTemplate.query(SELECT_CPF_INDEX, rs -> {
+            consumer.accept(rs.getString(1), rs.getObject(2, UUID.class));
+        });
+    }
+    
     @Override
     public boolean existsByCpf(String cpf) {
         return jpaRepository.existsByCpf(cpf);
@@ -0,0 +1,37 @@
+package com.meimentor.customer.infrastructure.persistence.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Splits large collections into chunks suitable for SQL {@code IN} parameters.
+ * 
+ * <p>Keeps each query below common driver and database limits on bind parameters
+ * while still resolving thousands of keys in a handful of round-trips.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+final class InClauseChunks {
+    
+    static final int MAX_IN_CLAUSE_SIZE = 1000;
+    
+    private InClauseChunks() {
+    }
+    
+    /**
+     * Splits values into chunks of at most {@link #MAX_IN_CLAUSE_SIZE} elements.
+     * 
+     * @param values the values to split
+     * @param <T> the value type
+     * @return the chunks (empty if values is empty)
+     */
+    static <T> List<List<T>> of(Collection<T> values) {
+        List<T> all = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < all.size(); start += MAX_IN_CLAUSE_SIZE) {
+            chunks.add(all.subList(start, Math.min(all.size(), start + MAX_IN_CLAUSE_SIZE)));
+        }
+        return chunks;
+    }
+}
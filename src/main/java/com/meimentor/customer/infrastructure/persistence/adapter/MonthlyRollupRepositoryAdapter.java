@@ -0,0 +1,55 @@
+package com.meimentor.customer.infrastructure.persistence.adapter;
+
+import com.meimentor.customer.domain.model.MonthlyRollup;
+import com.meimentor.customer.domain.port.MonthlyRollupRepositoryPort;
+import com.meimentor.customer.infrastructure.persistence.entity.CustomerMonthlyRollupEntity;
+import com.meimentor.customer.infrastructure.persistence.repository.CustomerMonthlyRollupJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementation of MonthlyRollupRepositoryPort using JPA.
+ * 
+ * <p>This adapter bridges the domain layer (port) with the infrastructure layer (JPA).</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+@RequiredArgsConstructor
+public class MonthlyRollupRepositoryAdapter implements MonthlyRollupRepositoryPort {
+    
+    private final CustomerMonthlyRollupJpaRepository jpaRepository;
+    
+    @Override
+    public List<MonthlyRollup> findByCustomerId(UUID customerId) {
+        return jpaRepository.findByCustomerIdOrderByMonthStartAsc(customerId).stream()
+                .map(CustomerMonthlyRollupEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public Map<UUID, List<MonthlyRollup>> findByCustomerIdIn(Collection<UUID> customerIds) {
+        Map<UUID, List<MonthlyRollup>> byCustomer = new HashMap<>();
+        for (List<UUID> chunk : InClauseChunks.of(customerIds)) {
+            for (CustomerMonthlyRollupEntity entity : jpaRepository.findByCustomerIdIn(chunk)) {
+                byCustomer.computeIfAbsent(entity.getCustomerId(), id -> new ArrayList<>()).add(entity.toDomain());
+            }
+        }
+        return byCustomer;
+    }
+    
+    @Override
+    public Optional<Instant> findLastUpdatedAt(UUID customerId) {
+        return Optional.ofNullable(jpaRepository.findLastUpdatedAt(customerId));
+    }
+}
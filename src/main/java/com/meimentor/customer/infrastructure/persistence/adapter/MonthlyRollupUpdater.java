@@ -0,0 +1,134 @@
+package com.meimentor.customer.infrastructure.persistence.adapter;
+
+import com.meimentor.customer.domain.model.Transaction;
+import com.meimentor.customer.domain.model.TransactionsIngestedEvent;
+import com.meimentor.customer.infrastructure.persistence.entity.CustomerMonthlyRollupEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Folds newly saved transactions into the customer monthly rollups.
+ * 
+ * <p>Runs inside the transaction that writes the transactions, so rollups and
+ * transactions commit together. The transactions of each customer and month are first
+ * folded into a delta row, which is then added to the stored rollup with one atomic
+ * {@code MERGE}: sums and counts are incremented and bitmasks OR-ed in place, so
+ * concurrent writers never overwrite each other. When two transactions create the same
+ * customer and month at once, the loser's statement fails on the unique key and is
+ * retried, which then finds the winner's row and adds to it. Deltas are applied in
+ * (customer, month) order so concurrent writers lock rows in the same order.</p>
+ * 
+ * <p>Transactions are treated as append-only: saving the same transaction twice counts it
+ * twice. A {@link TransactionsIngestedEvent} is published for the affected customers so
+ * cached analyses can be invalidated.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+@RequiredArgsConstructor
+public class MonthlyRollupUpdater {
+    
+    private static final int MAX_ATTEMPTS = 3;
+    
+    private static final String MERGE_ROLLUP = """
+            MERGE INTO customer_monthly_rollup r
+            USING (VALUES (CAST(? AS UUID), CAST(? AS UUID), CAST(? AS DATE), CAST(? AS NUMERIC(19, 2)),
+                           CAST(? AS BIGINT), CAST(? AS NUMERIC(19, 2)), CAST(? AS INT), CAST(? AS INT),
+                           CAST(? AS TIMESTAMP(6) WITH TIME ZONE)))
+                AS d(id, customer_id, month_start, commercial_credit_sum, commercial_credit_count, debit_sum,
+                     active_day_mask, activity_hints, updated_at)
+            ON r.customer_id = d.customer_id AND r.month_start = d.month_start
+            WHEN MATCHED THEN UPDATE SET
+                commercial_credit_sum = r.commercial_credit_sum + d.commercial_credit_sum,
+                commercial_credit_count = r.commercial_credit_count + d.commercial_credit_count,
+                debit_sum = r.debit_sum + d.debit_sum,
+                active_day_mask = BITOR(r.active_day_mask, d.active_day_mask),
+                distinct_day_count = BITCOUNT(BITOR(r.active_day_mask, d.active_day_mask)),
+                activity_hints = BITOR(r.activity_hints, d.activity_hints),
+                updated_at = d.updated_at
+            WHEN NOT MATCHED THEN INSERT
+                (id, customer_id, month_start, commercial_credit_sum, commercial_credit_count, debit_sum,
+                 active_day_mask, distinct_day_count, activity_hints, updated_at)
+                VALUES (d.id, d.customer_id, d.month_start, d.commercial_credit_sum, d.commercial_credit_count,
+                        d.debit_sum, d.active_day_mask, BITCOUNT(d.active_day_mask), d.activity_hints, d.updated_at)
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Applies a batch of saved transactions to the rollups.
+     * 
+     * @param transactions the transactions that were just saved
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Collection<Transaction> transactions) {
+        Map<UUID, Map<YearMonth, CustomerMonthlyRollupEntity>> deltas = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            YearMonth month = YearMonth.from(transaction.getDate());
+            CustomerMonthlyRollupEntity delta = deltas
+                    .computeIfAbsent(transaction.getCustomerId(), id -> new TreeMap<>())
+                    .computeIfAbsent(month, m -> CustomerMonthlyRollupEntity.empty(transaction.getCustomerId(), m));
+            fold(delta, transaction);
+        }
+        
+        Instant updatedAt = Instant.now();
+        deltas.values().forEach(byMonth -> byMonth.values().forEach(delta -> merge(delta, updatedAt)));
+        eventPublisher.publishEvent(new TransactionsIngestedEvent(Set.copyOf(deltas.keySet())));
+    }
+    
+    private void merge(CustomerMonthlyRollupEntity delta, Instant updatedAt) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(MERGE_ROLLUP,
+                        UUID.randomUUID(),
+                        delta.getCustomerId(),
+                        delta.getMonthStart(),
+                        delta.getCommercialCreditSum(),
+                        delta.getCommercialCreditCount(),
+                        delta.getDebitSum(),
+                        delta.getActiveDayMask(),
+                        delta.getActivityHints(),
+                        updatedAt);
+                return;
+            } catch (DuplicateKeyException e) {
+                // Another transaction created this month first; only the failed statement was
+                // rolled back, so running it again adds to the row that now exists
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Adds one transaction to a rollup row.
+     * 
+     * @param rollup the rollup of the transaction's customer and month
+     * @param transaction the transaction
+     */
+    static void fold(CustomerMonthlyRollupEntity rollup, Transaction transaction) {
+        rollup.markActiveDay(transaction.getDate().getDayOfMonth());
+        rollup.setActivityHints(rollup.getActivityHints() | transaction.getActivityHints());
+        
+        if (transaction.isCredit() && transaction.isCommercialPattern()) {
+            rollup.setCommercialCreditSum(rollup.getCommercialCreditSum().add(transaction.getAmount()));
+            rollup.setCommercialCreditCount(rollup.getCommercialCreditCount() + 1);
+        } else if (transaction.isDebit()) {
+            rollup.setDebitSum(rollup.getDebitSum().add(transaction.getAmount()));
+        }
+    }
+}
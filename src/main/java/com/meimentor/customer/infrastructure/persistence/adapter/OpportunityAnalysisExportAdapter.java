@@ -0,0 +1,99 @@
+package com.meimentor.customer.infrastructure.persistence.adapter;
+
+import com.meimentor.customer.domain.model.MarketIntelligence;
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+import com.meimentor.customer.domain.port.OpportunityAnalysisExportPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Adapter implementation of OpportunityAnalysisExportPort using a plain JDBC cursor.
+ * 
+ * <p>Analyses and market intelligence are read with one joined query over a forward-only,
+ * read-only result set, fetched {@code opportunity.export.fetch-size} rows per round-trip.
+ * JPA is bypassed on purpose: no entities are created and nothing accumulates in a
+ * persistence context.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+public class OpportunityAnalysisExportAdapter implements OpportunityAnalysisExportPort {
+    
+    private static final String EXPORT_QUERY = """
+            SELECT a.id, a.customer_id, a.potential_score, a.monthly_loss, a.shadow_limit,
+                   a.identified_revenue, a.recommendation, a.analyzed_at,
+                   m.id AS mi_id, m.business_niche, m.digital_presence_score, m.estimated_maturity,
+                   m.recommended_approach, m.social_media_platform, m.social_media_followers,
+                   m.has_google_maps_presence
+            FROM opportunity_analyses a
+            LEFT JOIN market_intelligence m ON m.customer_id = a.customer_id
+            """;
+    
+    private final JdbcTemplate cursorTemplate;
+    
+    public OpportunityAnalysisExportAdapter(
+            DataSource dataSource,
+            @Value("${opportunity.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Runs in a read-only transaction because some drivers (e.g. PostgreSQL) only honour
+     * the fetch size, instead of buffering the whole result, when auto-commit is off.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachAnalysis(Consumer<OpportunityAnalysis> consumer) {
+        long[] exported = {0};
+        cursorTemplate.query(EXPORT_QUERY, resultSet -> {
+            consumer.accept(mapRow(resultSet));
+            exported[0]++;
+        });
+        return exported[0];
+    }
+    
+    private static OpportunityAnalysis mapRow(ResultSet rs) throws SQLException {
+        UUID customerId = rs.getObject("customer_id", UUID.class);
+        UUID intelligenceId = rs.getObject("mi_id", UUID.class);
+        
+        MarketIntelligence marketIntelligence = null;
+        if (intelligenceId != null) {
+            marketIntelligence = MarketIntelligence.builder()
+                    .id(intelligenceId)
+                    .customerId(customerId)
+                    .businessNiche(rs.getString("business_niche"))
+                    .digitalPresenceScore(rs.getObject("digital_presence_score", Integer.class))
+                    .estimatedMaturity(rs.getString("estimated_maturity"))
+                    .recommendedApproach(rs.getString("recommended_approach"))
+                    .socialMediaPlatform(rs.getString("social_media_platform"))
+                    .socialMediaFollowers(rs.getObject("social_media_followers", Integer.class))
+                    .hasGoogleMapsPresence(rs.getObject("has_google_maps_presence", Boolean.class))
+                    .build();
+        }
+        
+        return OpportunityAnalysis.builder()
+                .id(rs.getObject("id", UUID.class))
+                .customerId(customerId)
+                .potentialScore(rs.getInt("potential_score"))
+                .monthlyLoss(rs.getBigDecimal("monthly_loss"))
+                .shadowLimit(rs.getBigDecimal("shadow_limit"))
+                .identifiedRevenue(rs.getBigDecimal("identified_revenue"))
+                .recommendation(rs.getString("recommendation"))
+                .marketIntelligence(marketIntelligence)
+                .analyzedAt(rs.getObject("analyzed_at", Instant.class))
+                .build();
+    }
+}
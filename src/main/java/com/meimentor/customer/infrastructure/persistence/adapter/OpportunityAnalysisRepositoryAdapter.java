@@ -1,5 +1,6 @@
 package com.meimentor.customer.infrastructure.persistence.adapter;
 
+import com.meimentor.customer.domain.model.MarketIntelligence;
 import com.meimentor.customer.domain.model.OpportunityAnalysis;
 import com.meimentor.customer.domain.port.OpportunityAnalysisRepositoryPort;
 import com.meimentor.customer.infrastructure.persistence.entity.MarketIntelligenceEntity;
@@ -7,7 +8,9 @@ import com.meimentor.customer.infrastructure.persistence.entity.OpportunityAnaly
 import com.meimentor.customer.infrastructure.persistence.repository.MarketIntelligenceJpaRepository;
 import com.meimentor.customer.infrastructure.persistence.repository.OpportunityAnalysisJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -15,7 +18,10 @@ import java.util.UUID;
 /**
  * Adapter implementation of OpportunityAnalysisRepositoryPort using JPA.
  * 
- * <p>This adapter bridges the domain layer (port) with the infrastructure layer (JPA).</p>
+ * <p>This adapter bridges the domain layer (port) with the infrastructure layer (JPA).
+ * Saves skip JPA: the analysis and its market intelligence are upserted with plain JDBC
+ * {@code MERGE} statements keyed on their unique {@code customer_id}, so re-analysis
+ * replaces the previous rows without reading them first.</p>
  * 
  * @author MEI-Mentor Team
  */
@@ -23,23 +29,60 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OpportunityAnalysisRepositoryAdapter implements OpportunityAnalysisRepositoryPort {
     
+    private static final String MERGE_ANALYSIS = """
+            MERGE INTO opportunity_analyses (id, customer_id, potential_score, monthly_loss, shadow_limit,
+                                             identified_revenue, recommendation, analyzed_at)
+            KEY (customer_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    
+    private static final String MERGE_MARKET_INTELLIGENCE = """
+            MERGE INTO market_intelligence (id, customer_id, business_niche, digital_presence_score,
+                                            estimated_maturity, recommended_approach, social_media_platform,
+                                            social_media_followers, has_google_maps_presence)
+            KEY (customer_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    
     private final OpportunityAnalysisJpaRepository jpaRepository;
     private final MarketIntelligenceJpaRepository marketIntelligenceRepository;
+    private final JdbcTemplate jdbcTemplate;
     
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Returns the given analysis as is: nothing is read back. Existing rows of the customer
+     * take the IDs of the given analysis and market intelligence. When the analysis has no
+     * market intelligence, the customer's previous one is kept.</p>
+     */
     @Override
+    @Transactional
     public OpportunityAnalysis save(OpportunityAnalysis analysis) {
-        OpportunityAnalysisEntity entity = OpportunityAnalysisEntity.fromDomain(analysis);
-        OpportunityAnalysisEntity saved = jpaRepository.save(entity);
+        jdbcTemplate.update(MERGE_ANALYSIS,
+                analysis.getId() != null ? analysis.getId() : UUID.randomUUID(),
+                analysis.getCustomerId(),
+                analysis.getPotentialScore(),
+                analysis.getMonthlyLoss(),
+                analysis.getShadowLimit(),
+                analysis.getIdentifiedRevenue(),
+                analysis.getRecommendation(),
+                analysis.getAnalyzedAt());
         
-        // Save MarketIntelligence separately if present
-        if (analysis.getMarketIntelligence() != null) {
-            MarketIntelligenceEntity intelligenceEntity = MarketIntelligenceEntity.fromDomain(analysis.getMarketIntelligence());
-            marketIntelligenceRepository.save(intelligenceEntity);
+        MarketIntelligence intelligence = analysis.getMarketIntelligence();
+        if (intelligence != null) {
+            jdbcTemplate.update(MERGE_MARKET_INTELLIGENCE,
+                    intelligence.getId() != null ? intelligence.getId() : UUID.randomUUID(),
+                    analysis.getCustomerId(),
+                    intelligence.getBusinessNiche(),
+                    intelligence.getDigitalPresenceScore(),
+                    intelligence.getEstimatedMaturity(),
+                    intelligence.getRecommendedApproach(),
+                    intelligence.getSocialMediaPlatform(),
+                    intelligence.getSocialMediaFollowers(),
+                    intelligence.getHasGoogleMapsPresence());
         }
         
-        // Return with MarketIntelligence included
-        return findByCustomerId(analysis.getCustomerId())
-                .orElse(saved.toDomain());
+        return analysis;
     }
     
     @Override
@@ -65,6 +108,7 @@ public class OpportunityAnalysisRepositoryAdapter implements OpportunityAnalysis
                     .identifiedRevenue(analysis.getIdentifiedRevenue())
                     .recommendation(analysis.getRecommendation())
                     .marketIntelligence(intelligenceOpt.get().toDomain())
+                    .analyzedAt(analysis.getAnalyzedAt())
                     .build();
         }
         
@@ -0,0 +1,48 @@
+package com.meimentor.customer.infrastructure.persistence.adapter;
+
+import com.meimentor.customer.domain.model.RescoringCheckpoint;
+import com.meimentor.customer.domain.port.RescoringCheckpointRepositoryPort;
+import com.meimentor.customer.infrastructure.persistence.entity.RescoringCheckpointEntity;
+import com.meimentor.customer.infrastructure.persistence.repository.RescoringCheckpointJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementation of RescoringCheckpointRepositoryPort using JPA.
+ * 
+ * <p>This adapter bridges the domain layer (port) with the infrastructure layer (JPA).</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Component
+@RequiredArgsConstructor
+public class RescoringCheckpointRepositoryAdapter implements RescoringCheckpointRepositoryPort {
+    
+    private final RescoringCheckpointJpaRepository jpaRepository;
+    
+    @Override
+    public RescoringCheckpoint save(RescoringCheckpoint checkpoint) {
+        RescoringCheckpointEntity entity = RescoringCheckpointEntity.fromDomain(checkpoint);
+        jpaRepository.findByJobIdAndPartitionIndex(checkpoint.getJobId(), checkpoint.getPartition())
+                .ifPresent(existing -> entity.setId(existing.getId()));
+        return jpaRepository.save(entity).toDomain();
+    }
+    
+    @Override
+    public List<RescoringCheckpoint> findByJobId(UUID jobId) {
+        return jpaRepository.findByJobIdOrderByPartitionIndexAsc(jobId).stream()
+                .map(RescoringCheckpointEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public Optional<UUID> findLatestIncompleteJobId() {
+        return jpaRepository.findFirstByCompletedFalseOrderByUpdatedAtDesc()
+                .map(RescoringCheckpointEntity::getJobId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.meimentor.customer.infrastructure.persistence.adapter;
+
+import com.meimentor.customer.domain.model.ActivityCategory;
+import com.meimentor.customer.domain.model.Transaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Prepared-statement batch insert of transactions, bypassing JPA.
+ * 
+ * <p>Each transaction is classified as it is bound, so the stored commercial flag and
+ * activity category match what {@code TransactionEntity.fromDomain} would persist.
+ * Transactions without an ID get a random one.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+final class TransactionJdbcBatch {
+    
+    private static final String INSERT_TRANSACTION = """
+            INSERT INTO transactions (id, customer_id, date, amount, type, description, commercial, category_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    
+    private TransactionJdbcBatch() {
+    }
+    
+    /**
+     * Inserts transactions in list order, {@code batchSize} rows per round-trip.
+     * 
+     * @param jdbcTemplate the template bound to the current transaction
+     * @param transactions the transactions to insert
+     * @param batchSize rows per JDBC batch
+     */
+    static void insert(JdbcTemplate jdbcTemplate, List<Transaction> transactions, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactions, batchSize, (ps, transaction) -> {
+            ActivityCategory category = transaction.getActivityCategory();
+            ps.setObject(1, transaction.getId() != null ? transaction.getId() : UUID.randomUUID());
+            ps.setObject(2, transaction.getCustomerId());
+            ps.setTimestamp(3, Timestamp.valueOf(transaction.getDate()));
+            ps.setBigDecimal(4, transaction.getAmount());
+            ps.setString(5, transaction.getType().name());
+            ps.setString(6, transaction.getDescription());
+            ps.setBoolean(7, transaction.isCommercialPattern());
+            ps.setShort(8, (short) (category != null ? category.getId() : 0));
+        });
+    }
+}
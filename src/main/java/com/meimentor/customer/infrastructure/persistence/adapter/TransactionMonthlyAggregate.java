@@ -0,0 +1,127 @@
+package com.meimentor.customer.infrastructure.persistence.adapter;
+
+import com.meimentor.customer.domain.model.ActivityCategory;
+import com.meimentor.customer.domain.model.MonthlyRollup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SQL aggregation of a customer's transactions into monthly buckets, bypassing JPA.
+ * 
+ * <p>Mirrors {@code MonthlyRollupUpdater.fold} with the classification stored at
+ * ingestion: commercial credits are summed and counted, debits are summed, and the
+ * distinct days of the month are counted. Each stored category id is mapped to its
+ * {@link ActivityCategory#mask()} bit, and the distinct bits are summed, which ORs them
+ * into the activity hints of the month. Each bucket also carries the customer's first
+ * transaction date, looked up over the {@code (customer_id, date)} index.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+final class TransactionMonthlyAggregate {
+    
+    private static final String AGGREGATE_MONTHLY = """
+            SELECT customer_id,
+                   EXTRACT(YEAR FROM date) AS year_part,
+                   EXTRACT(MONTH FROM date) AS month_part,
+                   COALESCE(SUM(CASE WHEN type = 'CREDIT' AND commercial THEN amount END), 0) AS commercial_credit_sum,
+                   COUNT(CASE WHEN type = 'CREDIT' AND commercial THEN 1 END) AS commercial_credit_count,
+                   COALESCE(SUM(CASE WHEN type = 'DEBIT' THEN amount END), 0) AS debit_sum,
+                   COUNT(DISTINCT EXTRACT(DAY FROM date)) AS distinct_day_count,
+                   SUM(DISTINCT %s) AS activity_hints,
+                   (SELECT MIN(f.date) FROM transactions f WHERE f.customer_id = t.customer_id) AS first_date
+            FROM transactions t
+            WHERE customer_id IN (%%s) AND date BETWEEN ? AND ?
+            GROUP BY customer_id, EXTRACT(YEAR FROM date), EXTRACT(MONTH FROM date)
+            ORDER BY customer_id, year_part, month_part
+            """.formatted(categoryMaskExpression());
+    
+    private TransactionMonthlyAggregate() {
+    }
+    
+    /**
+     * Aggregates the transactions of a customer within a date range.
+     * 
+     * @param jdbcTemplate the template to query with
+     * @param customerId the customer ID
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return monthly buckets ordered by month
+     */
+    static List<MonthlyRollup> query(
+            JdbcTemplate jdbcTemplate,
+            UUID customerId,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        return queryAll(jdbcTemplate, List.of(customerId), startDate, endDate)
+                .getOrDefault(customerId, List.of());
+    }
+    
+    /**
+     * Aggregates the transactions of many customers within a date range, one {@code IN}
+     * chunk of customers per query.
+     * 
+     * @param jdbcTemplate the template to query with
+     * @param customerIds the customer IDs
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @return monthly buckets ordered by month, grouped by customer ID
+     */
+    static Map<UUID, List<MonthlyRollup>> queryAll(
+            JdbcTemplate jdbcTemplate,
+            Collection<UUID> customerIds,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        Map<UUID, List<MonthlyRollup>> byCustomer = new HashMap<>();
+        for (List<UUID> chunk : InClauseChunks.of(customerIds)) {
+            String sql = AGGREGATE_MONTHLY.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?")));
+            List<Object> args = new ArrayList<>(chunk);
+            args.add(Timestamp.valueOf(startDate));
+            args.add(Timestamp.valueOf(endDate));
+            jdbcTemplate.query(sql, rs -> {
+                UUID customerId = rs.getObject("customer_id", UUID.class);
+                byCustomer.computeIfAbsent(customerId, id -> new ArrayList<>()).add(MonthlyRollup.builder()
+                        .customerId(customerId)
+                        .month(YearMonth.of(rs.getInt("year_part"), rs.getInt("month_part")))
+                        .commercialCreditSum(scaled(rs.getBigDecimal("commercial_credit_sum")))
+                        .commercialCreditCount(rs.getLong("commercial_credit_count"))
+                        .debitSum(scaled(rs.getBigDecimal("debit_sum")))
+                        .distinctDayCount(rs.getInt("distinct_day_count"))
+                        .activityHints(rs.getInt("activity_hints"))
+                        .firstTransactionDate(rs.getTimestamp("first_date").toLocalDateTime().toLocalDate())
+                        .build());
+            }, args.toArray());
+        }
+        return byCustomer;
+    }
+    
+    /**
+     * Builds {@code CASE category_id WHEN <id> THEN <mask> ... ELSE 0 END} from the categories.
+     */
+    private static String categoryMaskExpression() {
+        StringBuilder expression = new StringBuilder("CASE category_id");
+        for (ActivityCategory category : ActivityCategory.values()) {
+            expression.append(" WHEN ").append(category.getId()).append(" THEN ").append(category.mask());
+        }
+        return expression.append(" ELSE 0 END").toString();
+    }
+    
+    /**
+     * Keeps the scale of the stored amounts, which the {@code COALESCE} of an empty sum loses.
+     */
+    private static BigDecimal scaled(BigDecimal sum) {
+        return sum.setScale(2);
+    }
+}
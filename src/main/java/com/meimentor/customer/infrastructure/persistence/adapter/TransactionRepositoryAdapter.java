@@ -1,48 +1,84 @@
 package com.meimentor.customer.infrastructure.persistence.adapter;
 
+import com.meimentor.customer.domain.model.MonthlyRollup;
 import com.meimentor.customer.domain.model.Transaction;
 import com.meimentor.customer.domain.port.TransactionRepositoryPort;
 import com.meimentor.customer.infrastructure.persistence.entity.TransactionEntity;
 import com.meimentor.customer.infrastructure.persistence.repository.TransactionJpaRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Adapter implementation of TransactionRepositoryPort using JPA.
  * 
- * <p>This adapter bridges the domain layer (port) with the infrastructure layer (JPA).</p>
+ * <p>This adapter bridges the domain layer (port) with the infrastructure layer (JPA).
+ * Every write also updates the customer monthly rollups in the same transaction.
+ * {@link #insertAll(List)} skips JPA and writes with plain JDBC batches
+ * ({@code bulk-load.batch-size} rows per round-trip), and
+ * {@link #aggregateMonthly(UUID, LocalDateTime, LocalDateTime)} groups in SQL without
+ * loading any entity.</p>
  * 
  * @author MEI-Mentor Team
  */
 @Component
-@RequiredArgsConstructor
 public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     
     private final TransactionJpaRepository jpaRepository;
+    private final MonthlyRollupUpdater rollupUpdater;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    
+    public TransactionRepositoryAdapter(
+            TransactionJpaRepository jpaRepository,
+            MonthlyRollupUpdater rollupUpdater,
+            JdbcTemplate jdbcTemplate,
+            @Value("${bulk-load.batch-size:1000}") int batchSize
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.rollupUpdater = rollupUpdater;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
     
     @Override
+    @Transactional
     public Transaction save(Transaction transaction) {
         TransactionEntity entity = TransactionEntity.fromDomain(transaction);
-        TransactionEntity saved = jpaRepository.save(entity);
-        return saved.toDomain();
+        Transaction saved = jpaRepository.save(entity).toDomain();
+        rollupUpdater.apply(List.of(saved));
+        return saved;
     }
     
     @Override
+    @Transactional
     public List<Transaction> saveAll(List<Transaction> transactions) {
         List<TransactionEntity> entities = transactions.stream()
                 .map(TransactionEntity::fromDomain)
                 .collect(Collectors.toList());
         
-        List<TransactionEntity> saved = jpaRepository.saveAll(entities);
-        
-        return saved.stream()
+        List<Transaction> saved = jpaRepository.saveAll(entities).stream()
                 .map(TransactionEntity::toDomain)
                 .collect(Collectors.toList());
+        
+        rollupUpdater.apply(saved);
+        return saved;
+    }
+    
+    @Override
+    @Transactional
+    public int insertAll(List<Transaction> transactions) {
+        TransactionJdbcBatch.insert(jdbcTemplate, transactions, batchSize);
+        rollupUpdater.apply(transactions);
+        return transactions.size();
     }
     
     @Override
@@ -53,14 +89,16 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     }
     
     @Override
-    public List<Transaction> findByCustomerIdAndDateBetween(
-            UUID customerId, 
-            LocalDateTime startDate, 
+    public List<MonthlyRollup> aggregateMonthly(UUID customerId, LocalDateTime startDate, LocalDateTime endDate) {
+        return TransactionMonthlyAggregate.query(jdbcTemplate, customerId, startDate, endDate);
+    }
+    
+    @Override
+    public Map<UUID, List<MonthlyRollup>> aggregateMonthly(
+            Collection<UUID> customerIds,
+            LocalDateTime startDate,
             LocalDateTime endDate
     ) {
-        return jpaRepository.findByCustomerIdAndDateBetween(customerId, startDate, endDate).stream()
-                .map(TransactionEntity::toDomain)
-                .collect(Collectors.toList());
+        return TransactionMonthlyAggregate.queryAll(jdbcTemplate, customerIds, startDate, endDate);
     }
 }
-
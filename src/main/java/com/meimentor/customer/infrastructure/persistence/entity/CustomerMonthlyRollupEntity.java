@@ -0,0 +1,108 @@
+package com.meimentor.customer.infrastructure.persistence.entity;
+
+import com.meimentor.customer.domain.model.MonthlyRollup;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the per-customer monthly transaction rollup.
+ * 
+ * <p>One row per customer and month, updated incrementally as transactions are saved.
+ * Active days are kept as a bitmask (bit {@code n-1} for day {@code n}) so the distinct
+ * day count can be maintained without re-reading transactions.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Entity
+@Table(
+        name = "customer_monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_customer_monthly_rollup_customer_month",
+                columnNames = {"customer_id", "month_start"}
+        )
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class CustomerMonthlyRollupEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+    
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+    
+    @Column(name = "commercial_credit_sum", nullable = false, precision = 19, scale = 2)
+    private BigDecimal commercialCreditSum = BigDecimal.ZERO;
+    
+    @Column(name = "commercial_credit_count", nullable = false)
+    private long commercialCreditCount;
+    
+    @Column(name = "debit_sum", nullable = false, precision = 19, scale = 2)
+    private BigDecimal debitSum = BigDecimal.ZERO;
+    
+    @Column(name = "active_day_mask", nullable = false)
+    private int activeDayMask;
+    
+    @Column(name = "distinct_day_count", nullable = false)
+    private int distinctDayCount;
+    
+    @Column(name = "activity_hints", nullable = false)
+    private int activityHints;
+    
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+    
+    /**
+     * Creates an empty rollup row for a customer and month.
+     * 
+     * @param customerId the customer ID
+     * @param month the month
+     * @return a zeroed rollup entity
+     */
+    public static CustomerMonthlyRollupEntity empty(UUID customerId, YearMonth month) {
+        CustomerMonthlyRollupEntity entity = new CustomerMonthlyRollupEntity();
+        entity.setCustomerId(customerId);
+        entity.setMonthStart(month.atDay(1));
+        return entity;
+    }
+    
+    /**
+     * Marks a day of the month as active and refreshes the distinct day count.
+     * 
+     * @param dayOfMonth the day of month (1-31)
+     */
+    public void markActiveDay(int dayOfMonth) {
+        activeDayMask |= 1 << (dayOfMonth - 1);
+        distinctDayCount = Integer.bitCount(activeDayMask);
+    }
+    
+    /**
+     * Converts this entity to domain model.
+     * 
+     * @return MonthlyRollup domain model
+     */
+    public MonthlyRollup toDomain() {
+        return MonthlyRollup.builder()
+                .customerId(this.customerId)
+                .month(YearMonth.from(this.monthStart))
+                .commercialCreditSum(this.commercialCreditSum)
+                .commercialCreditCount(this.commercialCreditCount)
+                .debitSum(this.debitSum)
+                .distinctDayCount(this.distinctDayCount)
+                .activityHints(this.activityHints)
+                .build();
+    }
+}
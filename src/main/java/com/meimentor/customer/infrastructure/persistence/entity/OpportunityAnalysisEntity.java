@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -45,6 +46,9 @@ public class OpportunityAnalysisEntity {
     @Column(length = 1000)
     private String recommendation;
     
+    @Column(name = "analyzed_at")
+    private Instant analyzedAt;
+    
     /**
      * Converts this entity to domain model.
      * 
@@ -60,6 +64,7 @@ public class OpportunityAnalysisEntity {
                 .identifiedRevenue(this.identifiedRevenue)
                 .recommendation(this.recommendation)
                 .marketIntelligence(null) // Will be loaded separately
+                .analyzedAt(this.analyzedAt)
                 .build();
     }
     
@@ -80,6 +85,7 @@ public class OpportunityAnalysisEntity {
         entity.setShadowLimit(analysis.getShadowLimit());
         entity.setIdentifiedRevenue(analysis.getIdentifiedRevenue());
         entity.setRecommendation(analysis.getRecommendation());
+        entity.setAnalyzedAt(analysis.getAnalyzedAt());
         // MarketIntelligence is saved separately in the adapter
         return entity;
     }
@@ -0,0 +1,97 @@
+package com.meimentor.customer.infrastructure.persistence.entity;
+
+import com.meimentor.customer.domain.model.RescoringCheckpoint;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA Entity for portfolio re-scoring checkpoints.
+ * 
+ * <p>One row per job and partition, overwritten each time the partition's
+ * persisted watermark advances.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@Entity
+@Table(
+        name = "rescoring_checkpoints",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_rescoring_checkpoints_job_partition",
+                columnNames = {"job_id", "partition_index"}
+        )
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class RescoringCheckpointEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+    
+    @Column(name = "partition_index", nullable = false)
+    private int partitionIndex;
+    
+    @Column(name = "range_start", nullable = false)
+    private UUID rangeStart;
+    
+    @Column(name = "range_end", nullable = false)
+    private UUID rangeEnd;
+    
+    @Column(name = "last_customer_id")
+    private UUID lastCustomerId;
+    
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+    
+    @Column(nullable = false)
+    private boolean completed;
+    
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+    
+    /**
+     * Converts this entity to domain model.
+     * 
+     * @return RescoringCheckpoint domain model
+     */
+    public RescoringCheckpoint toDomain() {
+        return RescoringCheckpoint.builder()
+                .jobId(this.jobId)
+                .partition(this.partitionIndex)
+                .rangeStart(this.rangeStart)
+                .rangeEnd(this.rangeEnd)
+                .lastCustomerId(this.lastCustomerId)
+                .processedCount(this.processedCount)
+                .completed(this.completed)
+                .updatedAt(this.updatedAt)
+                .build();
+    }
+    
+    /**
+     * Creates entity from domain model.
+     * 
+     * @param checkpoint the domain model
+     * @return RescoringCheckpointEntity
+     */
+    public static RescoringCheckpointEntity fromDomain(RescoringCheckpoint checkpoint) {
+        RescoringCheckpointEntity entity = new RescoringCheckpointEntity();
+        entity.setJobId(checkpoint.getJobId());
+        entity.setPartitionIndex(checkpoint.getPartition());
+        entity.setRangeStart(checkpoint.getRangeStart());
+        entity.setRangeEnd(checkpoint.getRangeEnd());
+        entity.setLastCustomerId(checkpoint.getLastCustomerId());
+        entity.setProcessedCount(checkpoint.getProcessedCount());
+        entity.setCompleted(checkpoint.isCompleted());
+        entity.setUpdatedAt(checkpoint.getUpdatedAt() != null ? checkpoint.getUpdatedAt() : Instant.now());
+        return entity;
+    }
+}
@@ -1,6 +1,8 @@
 package com.meimentor.customer.infrastructure.persistence.entity;
 
+import com.meimentor.customer.domain.model.ActivityCategory;
 import com.meimentor.customer.domain.model.Transaction;
+import com.meimentor.customer.domain.service.TransactionClassifier;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,7 +20,15 @@ import java.util.UUID;
  * @author MEI-Mentor Team
  */
 @Entity
-@Table(name = "transactions")
+@Table(
+        name = "transactions",
+        indexes = {
+                @Index(
+                        name = "idx_transactions_customer_date",
+                        columnList = "customer_id, date"
+                )
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -44,6 +54,18 @@ public class TransactionEntity {
     @Column(length = 500)
     private String description;
     
+    /**
+     * Whether the description matched a commercial pattern, computed once at ingestion.
+     */
+    @Column(nullable = false)
+    private boolean commercial;
+    
+    /**
+     * Resolved {@link ActivityCategory} id computed at ingestion (0 = no category).
+     */
+    @Column(name = "category_id", nullable = false)
+    private short categoryId;
+    
     /**
      * Transaction type enumeration.
      */
@@ -64,12 +86,17 @@ public class TransactionEntity {
                 .amount(this.amount)
                 .type(Transaction.TransactionType.valueOf(this.type.name()))
                 .description(this.description)
+                .classification(TransactionClassifier.classification(
+                        this.commercial, ActivityCategory.fromId(this.categoryId)))
                 .build();
     }
     
     /**
      * Creates entity from domain model.
      * 
+     * <p>The transaction is classified here, so every write through the repository
+     * persists its commercial flag and activity category.</p>
+     * 
      * @param transaction the domain model
      * @return TransactionEntity
      */
@@ -81,6 +108,9 @@ public class TransactionEntity {
         entity.setAmount(transaction.getAmount());
         entity.setType(TransactionType.valueOf(transaction.getType().name()));
         entity.setDescription(transaction.getDescription());
+        entity.setCommercial(transaction.isCommercialPattern());
+        ActivityCategory category = transaction.getActivityCategory();
+        entity.setCategoryId((short) (category != null ? category.getId() : 0));
         return entity;
     }
 }
@@ -1,9 +1,12 @@
 package com.meimentor.customer.infrastructure.persistence.repository;
 
 import com.meimentor.customer.infrastructure.persistence.entity.CustomerEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,6 +20,12 @@ public interface CustomerJpaRepository extends JpaRepository<CustomerEntity, UUI
     
     Optional<CustomerEntity> findByCpf(String cpf);
     
+    List<CustomerEntity> findByCpfIn(Collection<String> cpfs);
+    
+    List<CustomerEntity> findByIdBetweenOrderByIdAsc(UUID from, UUID to, Limit limit);
+    
+    List<CustomerEntity> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(UUID after, UUID to, Limit limit);
+    
     boolean existsByCpf(String cpf);
 }
 
@@ -0,0 +1,28 @@
+package com.meimentor.customer.infrastructure.persistence.repository;
+
+import com.meimentor.customer.infrastructure.persistence.entity.CustomerMonthlyRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository for CustomerMonthlyRollupEntity.
+ * 
+ * @author MEI-Mentor Team
+ */
+@Repository
+public interface CustomerMonthlyRollupJpaRepository extends JpaRepository<CustomerMonthlyRollupEntity, UUID> {
+    
+    List<CustomerMonthlyRollupEntity> findByCustomerIdOrderByMonthStartAsc(UUID customerId);
+    
+    List<CustomerMonthlyRollupEntity> findByCustomerIdIn(Collection<UUID> customerIds);
+    
+    @Query("SELECT MAX(r.updatedAt) FROM CustomerMonthlyRollupEntity r WHERE r.customerId = :customerId")
+    Instant findLastUpdatedAt(@Param("customerId") UUID customerId);
+}
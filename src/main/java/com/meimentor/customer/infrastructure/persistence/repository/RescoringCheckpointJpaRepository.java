@@ -0,0 +1,24 @@
+package com.meimentor.customer.infrastructure.persistence.repository;
+
+import com.meimentor.customer.infrastructure.persistence.entity.RescoringCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository for RescoringCheckpointEntity.
+ * 
+ * @author MEI-Mentor Team
+ */
+@Repository
+public interface RescoringCheckpointJpaRepository extends JpaRepository<RescoringCheckpointEntity, UUID> {
+    
+    Optional<RescoringCheckpointEntity> findByJobIdAndPartitionIndex(UUID jobId, int partitionIndex);
+    
+    List<RescoringCheckpointEntity> findByJobIdOrderByPartitionIndexAsc(UUID jobId);
+    
+    Optional<RescoringCheckpointEntity> findFirstByCompletedFalseOrderByUpdatedAtDesc();
+}
@@ -0,0 +1,109 @@
+package com.meimentor.customer.infrastructure.statement;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Reads {@code cpf,date,type,amount,description} lines from a mapped CSV chunk.
+ * 
+ * <p>Blank lines and header lines (starting with a letter) are skipped. An unquoted
+ * description runs to the end of the line, so it may contain the delimiter.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+final class CsvStatementReader implements StatementReader {
+    
+    private final ByteBuffer buffer;
+    private final byte delimiter;
+    private final StatementRecord record;
+    private final int limit;
+    private int position;
+    
+    CsvStatementReader(ByteBuffer buffer, long baseOffset, Charset charset, byte delimiter) {
+        this.buffer = buffer;
+        this.delimiter = delimiter;
+        this.record = new StatementRecord(buffer, baseOffset, charset);
+        this.limit = buffer.limit();
+    }
+    
+    @Override
+    public boolean next() {
+        while (position < limit) {
+            int lineStart = position;
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            position = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            
+            int first = skipSpaces(lineStart, lineEnd);
+            if (first == lineEnd || isLetter(buffer.get(first))) {
+                continue;
+            }
+            parse(lineStart, lineEnd);
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public StatementRecord record() {
+        return record;
+    }
+    
+    private void parse(int start, int end) {
+        record.reset(start);
+        int i = start;
+        for (int field = 0; field < 5 && i <= end; field++) {
+            i = skipSpaces(i, end);
+            int fieldStart;
+            int fieldEnd;
+            boolean quoted = i < end && buffer.get(i) == '"';
+            if (quoted) {
+                fieldStart = ++i;
+                while (i < end && !(buffer.get(i) == '"' && (i + 1 >= end || buffer.get(i + 1) != '"'))) {
+                    i += buffer.get(i) == '"' ? 2 : 1;
+                }
+                fieldEnd = i;
+                while (i < end && buffer.get(i) != delimiter) {
+                    i++;
+                }
+            } else {
+                fieldStart = i;
+                while (i < end && (field == 4 || buffer.get(i) != delimiter)) {
+                    i++;
+                }
+                fieldEnd = trimEnd(fieldStart, i);
+            }
+            switch (field) {
+                case 0 -> record.cpf(fieldStart, fieldEnd);
+                case 1 -> record.date(fieldStart, fieldEnd);
+                case 2 -> record.type(fieldStart, fieldEnd);
+                case 3 -> record.amount(fieldStart, fieldEnd);
+                default -> record.description(fieldStart, fieldEnd, quoted, false);
+            }
+            i++;
+        }
+    }
+    
+    private int skipSpaces(int from, int end) {
+        while (from < end && (buffer.get(from) == ' ' || buffer.get(from) == '\t')) {
+            from++;
+        }
+        return from;
+    }
+    
+    private int trimEnd(int start, int end) {
+        while (end > start && (buffer.get(end - 1) == ' ' || buffer.get(end - 1) == '\t')) {
+            end--;
+        }
+        return end;
+    }
+    
+    private static boolean isLetter(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+}
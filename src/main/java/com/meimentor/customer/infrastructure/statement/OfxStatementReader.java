@@ -0,0 +1,143 @@
+package com.meimentor.customer.infrastructure.statement;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads {@code <STMTTRN>} records from a mapped OFX chunk.
+ * 
+ * <p>Tags are matched on bytes, for both SGML (unclosed leaf elements) and XML OFX. The
+ * CPF of every transaction is the {@code <ACCTID>} last seen outside a transaction, i.e.
+ * the account of the enclosing statement; chunks start at a {@code <STMTRS>}, so it is
+ * always inside the chunk.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+final class OfxStatementReader implements StatementReader {
+    
+    private static final byte[] STMTTRN = bytes("STMTTRN");
+    private static final byte[] STMTTRN_END = bytes("/STMTTRN");
+    private static final byte[] ACCTID = bytes("ACCTID");
+    private static final byte[] TRNAMT = bytes("TRNAMT");
+    private static final byte[] DTPOSTED = bytes("DTPOSTED");
+    private static final byte[] MEMO = bytes("MEMO");
+    private static final byte[] NAME = bytes("NAME");
+    
+    private final ByteBuffer buffer;
+    private final StatementRecord record;
+    private final int limit;
+    private int position;
+    private int accountStart;
+    private int accountEnd;
+    private boolean inTransaction;
+    private boolean hasMemo;
+    private int valueStart;
+    private int valueEnd;
+    
+    OfxStatementReader(ByteBuffer buffer, long baseOffset, Charset charset) {
+        this.buffer = buffer;
+        this.record = new StatementRecord(buffer, baseOffset, charset);
+        this.limit = buffer.limit();
+    }
+    
+    @Override
+    public boolean next() {
+        while (true) {
+            int open = indexOf((byte) '<', position);
+            int close = open < 0 ? -1 : indexOf((byte) '>', open + 1);
+            if (close < 0) {
+                position = limit;
+                return false;
+            }
+            position = close + 1;
+            
+            int tag = open + 1;
+            if (matches(tag, close, STMTTRN)) {
+                inTransaction = true;
+                hasMemo = false;
+                record.reset(open);
+                record.cpf(accountStart, accountEnd);
+            } else if (matches(tag, close, STMTTRN_END)) {
+                if (inTransaction) {
+                    inTransaction = false;
+                    return true;
+                }
+            } else if (matches(tag, close, ACCTID)) {
+                if (!inTransaction) {
+                    value();
+                    accountStart = valueStart;
+                    accountEnd = valueEnd;
+                }
+            } else if (inTransaction) {
+                if (matches(tag, close, TRNAMT)) {
+                    value();
+                    record.amount(valueStart, valueEnd);
+                } else if (matches(tag, close, DTPOSTED)) {
+                    value();
+                    record.date(valueStart, valueEnd);
+                } else if (matches(tag, close, MEMO)) {
+                    value();
+                    record.description(valueStart, valueEnd, false, true);
+                    hasMemo = true;
+                } else if (matches(tag, close, NAME) && !hasMemo) {
+                    value();
+                    record.description(valueStart, valueEnd, false, true);
+                }
+            }
+        }
+    }
+    
+    @Override
+    public StatementRecord record() {
+        return record;
+    }
+    
+    /**
+     * Locates the text after the current tag, up to the next tag or line break, trimmed.
+     */
+    private void value() {
+        int start = position;
+        while (start < limit && (buffer.get(start) == ' ' || buffer.get(start) == '\t')) {
+            start++;
+        }
+        int end = start;
+        while (end < limit) {
+            byte b = buffer.get(end);
+            if (b == '<' || b == '\r' || b == '\n') {
+                break;
+            }
+            end++;
+        }
+        while (end > start && (buffer.get(end - 1) == ' ' || buffer.get(end - 1) == '\t')) {
+            end--;
+        }
+        valueStart = start;
+        valueEnd = end;
+    }
+    
+    private int indexOf(byte target, int from) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private boolean matches(int start, int end, byte[] tag) {
+        if (end - start != tag.length) {
+            return false;
+        }
+        for (int i = 0; i < tag.length; i++) {
+            if (buffer.get(start + i) != tag[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static byte[] bytes(String tag) {
+        return tag.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,25 @@
+package com.meimentor.customer.infrastructure.statement;
+
+/**
+ * A byte range of a statement file holding whole records only.
+ * 
+ * <p>Both ends fall on record boundaries, so a chunk can be parsed on its own and
+ * {@code end} is a valid restart offset once every record of the chunk is stored.</p>
+ * 
+ * @param index the chunk position in the file, from 0
+ * @param start the offset of the first byte (inclusive)
+ * @param end the offset after the last byte (exclusive)
+ * 
+ * @author MEI-Mentor Team
+ */
+public record StatementChunk(int index, long start, long end) {
+    
+    /**
+     * Gets the chunk length in bytes.
+     * 
+     * @return end minus start
+     */
+    public long length() {
+        return end - start;
+    }
+}
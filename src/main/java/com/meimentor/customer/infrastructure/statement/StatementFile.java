@@ -0,0 +1,150 @@
+package com.meimentor.customer.infrastructure.statement;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bank statement file read through memory mappings.
+ * 
+ * <p>The file is split into chunks of roughly {@code chunkSize} bytes whose ends are moved
+ * forward to the next record boundary (the next line for CSV, the next {@code <STMTRS>}
+ * for OFX). Each chunk is mapped on its own, read-only, and parsed straight from the page
+ * cache; nothing is copied into the heap except the fields of the records kept.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public final class StatementFile implements AutoCloseable {
+    
+    private static final int SCAN_WINDOW = 64 * 1024;
+    private static final byte[] STMTRS = "<STMTRS>".getBytes(StandardCharsets.US_ASCII);
+    
+    private final StatementFormat format;
+    private final FileChannel channel;
+    private final long size;
+    private final Charset charset;
+    private final byte csvDelimiter;
+    
+    private StatementFile(StatementFormat format, FileChannel channel, Charset charset, byte csvDelimiter)
+            throws IOException {
+        this.format = format;
+        this.channel = channel;
+        this.size = channel.size();
+        this.charset = charset;
+        this.csvDelimiter = csvDelimiter;
+    }
+    
+    /**
+     * Opens a statement file for reading.
+     * 
+     * @param path the file path
+     * @param format the file layout
+     * @param charset the encoding of descriptions
+     * @param csvDelimiter the CSV field delimiter (ignored for OFX)
+     * @return the open file
+     * @throws IOException if the file cannot be opened
+     */
+    public static StatementFile open(Path path, StatementFormat format, Charset charset, char csvDelimiter)
+            throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new StatementFile(format, channel, charset, (byte) csvDelimiter);
+    }
+    
+    /**
+     * Gets the file size.
+     * 
+     * @return the size in bytes
+     */
+    public long size() {
+        return size;
+    }
+    
+    /**
+     * Splits the file, from the first record at or after {@code fromOffset}, into chunks of whole records.
+     * 
+     * @param fromOffset where to start (0, or a restart offset reported by an earlier import)
+     * @param chunkSize the target chunk size in bytes
+     * @return the chunks, in file order (empty if nothing is left)
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a single record is larger than a mapping allows
+     */
+    public List<StatementChunk> split(long fromOffset, long chunkSize) throws IOException {
+        long step = Math.max(1, Math.min(chunkSize, Integer.MAX_VALUE));
+        List<StatementChunk> chunks = new ArrayList<>();
+        long start = recordStartAtOrAfter(fromOffset);
+        while (start < size) {
+            long end = recordStartAtOrAfter(start + step);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Statement at byte " + start + " is too large to map");
+            }
+            chunks.add(new StatementChunk(chunks.size(), start, end));
+            start = end;
+        }
+        return chunks;
+    }
+    
+    /**
+     * Maps a chunk and opens a reader over its records.
+     * 
+     * @param chunk a chunk returned by {@link #split}
+     * @return the chunk reader
+     * @throws IOException if the chunk cannot be mapped
+     */
+    public StatementReader reader(StatementChunk chunk) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+        return switch (format) {
+            case CSV -> new CsvStatementReader(buffer, chunk.start(), charset, csvDelimiter);
+            case OFX -> new OfxStatementReader(buffer, chunk.start(), charset);
+        };
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    /**
+     * Finds the first record boundary at or after a position, scanning small mapped windows.
+     */
+    private long recordStartAtOrAfter(long position) throws IOException {
+        if (position <= 0) {
+            return 0;
+        }
+        if (position >= size) {
+            return size;
+        }
+        // A CSV record starts right after a line break; an OFX record starts at <STMTRS>
+        byte[] marker = format == StatementFormat.CSV ? new byte[]{'\n'} : STMTRS;
+        long from = format == StatementFormat.CSV ? position - 1 : position;
+        while (from < size) {
+            int length = (int) Math.min(SCAN_WINDOW, size - from);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, from, length);
+            for (int i = 0; i + marker.length <= length; i++) {
+                if (startsWith(window, i, marker)) {
+                    return format == StatementFormat.CSV ? from + i + 1 : from + i;
+                }
+            }
+            if (from + length >= size) {
+                break;
+            }
+            // Overlap windows so a marker split across them is still found
+            from += length - (marker.length - 1);
+        }
+        return size;
+    }
+    
+    private static boolean startsWith(MappedByteBuffer window, int index, byte[] marker) {
+        for (int i = 0; i < marker.length; i++) {
+            if (window.get(index + i) != marker[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package com.meimentor.customer.infrastructure.statement;
+
+import java.util.Locale;
+
+/**
+ * Layouts of bank statement files accepted by the importer.
+ * 
+ * <p>CSV: one transaction per line, {@code cpf,date,type,amount,description}. A header
+ * line (starting with a letter) is skipped; the description may be quoted with
+ * {@code "..."} (doubled quotes inside), but must not span lines.</p>
+ * 
+ * <p>OFX (SGML 1.x or XML 2.x): one {@code <STMTRS>} per customer, whose
+ * {@code <BANKACCTFROM><ACCTID>} holds the customer CPF; each {@code <STMTTRN>} is a
+ * transaction, signed by {@code <TRNAMT>}, dated by {@code <DTPOSTED>} and described by
+ * {@code <MEMO>} (or {@code <NAME>}).</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public enum StatementFormat {
+    
+    CSV,
+    OFX;
+    
+    /**
+     * Resolves a format by name, or by the file extension when no name is given.
+     * 
+     * @param name the format name (CSV or OFX), may be blank
+     * @param fileName the statement file name
+     * @return the format
+     * @throws IllegalArgumentException if the format cannot be determined
+     */
+    public static StatementFormat resolve(String name, String fileName) {
+        if (name != null && !name.isBlank()) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported statement format: " + name);
+            }
+        }
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv") || lower.endsWith(".txt")) {
+            return CSV;
+        }
+        if (lower.endsWith(".ofx")) {
+            return OFX;
+        }
+        throw new IllegalArgumentException("Cannot tell the statement format of " + fileName + "; pass CSV or OFX");
+    }
+}
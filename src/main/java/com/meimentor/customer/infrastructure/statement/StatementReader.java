@@ -0,0 +1,26 @@
+package com.meimentor.customer.infrastructure.statement;
+
+/**
+ * Forward-only cursor over the records of one statement chunk.
+ * 
+ * <p>The same {@link StatementRecord} instance is reused for every record: it only points
+ * at the mapped bytes, and fields are decoded when asked for.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public interface StatementReader {
+    
+    /**
+     * Advances to the next record.
+     * 
+     * @return true if a record is available, false at the end of the chunk
+     */
+    boolean next();
+    
+    /**
+     * Gets the current record; valid until the next call to {@link #next()}.
+     * 
+     * @return the current record
+     */
+    StatementRecord record();
+}
@@ -0,0 +1,267 @@
+package com.meimentor.customer.infrastructure.statement;
+
+import com.meimentor.customer.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * One statement record, as byte ranges of the mapped file.
+ * 
+ * <p>Readers only locate the fields; each getter decodes its field straight from the
+ * bytes when called. CPF, date and amount are parsed without creating a String, and the
+ * description String is only built for records that are actually kept.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public final class StatementRecord {
+    
+    private static final byte[] CREDIT = {'C', 'R', 'E', 'D', 'I', 'T'};
+    private static final byte[] DEBIT = {'D', 'E', 'B', 'I', 'T'};
+    private static final byte[] C = {'C'};
+    private static final byte[] D = {'D'};
+    
+    private final ByteBuffer buffer;
+    private final long baseOffset;
+    private final Charset charset;
+    
+    private long offset;
+    private int cpfStart;
+    private int cpfEnd;
+    private int dateStart;
+    private int dateEnd;
+    private int typeStart;
+    private int typeEnd;
+    private int amountStart;
+    private int amountEnd;
+    private int descriptionStart;
+    private int descriptionEnd;
+    private boolean descriptionQuoted;
+    private boolean descriptionEscaped;
+    
+    StatementRecord(ByteBuffer buffer, long baseOffset, Charset charset) {
+        this.buffer = buffer;
+        this.baseOffset = baseOffset;
+        this.charset = charset;
+    }
+    
+    /**
+     * Gets the file offset where this record starts.
+     * 
+     * @return the byte offset of the record
+     */
+    public long offset() {
+        return offset;
+    }
+    
+    /**
+     * Decodes the CPF as a number (11 digits; dots and dashes are ignored).
+     * 
+     * @return the CPF digits as a long
+     * @throws IllegalArgumentException if the field is not a CPF
+     */
+    public long cpf() {
+        long value = 0;
+        int digits = 0;
+        for (int i = cpfStart; i < cpfEnd; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                digits++;
+            } else if (b != '.' && b != '-') {
+                throw invalid("CPF");
+            }
+        }
+        if (digits != 11) {
+            throw invalid("CPF");
+        }
+        return value;
+    }
+    
+    /**
+     * Decodes the date: {@code yyyy-MM-dd[THH:mm[:ss]]} or OFX {@code yyyyMMdd[HHmm[ss]]};
+     * fractions of a second and time zones are ignored.
+     * 
+     * @return the transaction date-time
+     * @throws IllegalArgumentException if the field is not a date
+     */
+    public LocalDateTime date() {
+        long value = 0;
+        int digits = 0;
+        for (int i = dateStart; i < dateEnd && digits < 14; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                digits++;
+            } else if (b == '.' || b == '[' || b == '+' || b == 'Z') {
+                break;
+            } else if (b != '-' && b != ':' && b != 'T' && b != ' ') {
+                throw invalid("date");
+            }
+        }
+        switch (digits) {
+            case 8 -> value *= 1_000_000;
+            case 12 -> value *= 100;
+            case 14 -> { }
+            default -> throw invalid("date");
+        }
+        try {
+            return LocalDateTime.of(
+                    (int) (value / 10_000_000_000L),
+                    (int) (value / 100_000_000L % 100),
+                    (int) (value / 1_000_000L % 100),
+                    (int) (value / 10_000L % 100),
+                    (int) (value / 100L % 100),
+                    (int) (value % 100));
+        } catch (DateTimeException e) {
+            throw invalid("date");
+        }
+    }
+    
+    /**
+     * Decodes the signed amount; either {@code .} or {@code ,} is accepted as the decimal separator.
+     * 
+     * @return the amount, negative for OFX debits
+     * @throws IllegalArgumentException if the field is not a number
+     */
+    public BigDecimal amount() {
+        long unscaled = 0;
+        int scale = 0;
+        boolean negative = false;
+        boolean digits = false;
+        boolean fraction = false;
+        for (int i = amountStart; i < amountEnd; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (unscaled > (Long.MAX_VALUE - 9) / 10) {
+                    throw invalid("amount");
+                }
+                unscaled = unscaled * 10 + (b - '0');
+                digits = true;
+                if (fraction) {
+                    scale++;
+                }
+            } else if ((b == '.' || b == ',') && !fraction) {
+                fraction = true;
+            } else if ((b == '-' || b == '+') && !digits && !negative && !fraction) {
+                negative = b == '-';
+            } else {
+                throw invalid("amount");
+            }
+        }
+        if (!digits) {
+            throw invalid("amount");
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+    
+    /**
+     * Decodes the transaction type from the type field (CREDIT, DEBIT, C or D), or from the
+     * amount sign when the record has no type field.
+     * 
+     * @param amount the decoded amount
+     * @return the transaction type
+     * @throws IllegalArgumentException if the type is unknown or the amount is zero
+     */
+    public Transaction.TransactionType type(BigDecimal amount) {
+        if (typeEnd > typeStart) {
+            if (matches(typeStart, typeEnd, CREDIT) || matches(typeStart, typeEnd, C)) {
+                return Transaction.TransactionType.CREDIT;
+            }
+            if (matches(typeStart, typeEnd, DEBIT) || matches(typeStart, typeEnd, D)) {
+                return Transaction.TransactionType.DEBIT;
+            }
+            throw invalid("type");
+        }
+        if (amount.signum() == 0) {
+            throw invalid("amount");
+        }
+        return amount.signum() > 0 ? Transaction.TransactionType.CREDIT : Transaction.TransactionType.DEBIT;
+    }
+    
+    /**
+     * Decodes the description.
+     * 
+     * @return the description, or null if the record has none
+     */
+    public String description() {
+        if (descriptionEnd <= descriptionStart) {
+            return null;
+        }
+        byte[] bytes = new byte[descriptionEnd - descriptionStart];
+        buffer.get(descriptionStart, bytes);
+        String description = new String(bytes, charset);
+        if (descriptionQuoted && description.indexOf('"') >= 0) {
+            description = description.replace("\"\"", "\"");
+        }
+        if (descriptionEscaped && description.indexOf('&') >= 0) {
+            description = description.replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+        }
+        return description;
+    }
+    
+    void reset(int start) {
+        offset = baseOffset + start;
+        cpfStart = cpfEnd = 0;
+        dateStart = dateEnd = 0;
+        typeStart = typeEnd = 0;
+        amountStart = amountEnd = 0;
+        descriptionStart = descriptionEnd = 0;
+        descriptionQuoted = false;
+        descriptionEscaped = false;
+    }
+    
+    void cpf(int start, int end) {
+        cpfStart = start;
+        cpfEnd = end;
+    }
+    
+    void date(int start, int end) {
+        dateStart = start;
+        dateEnd = end;
+    }
+    
+    void type(int start, int end) {
+        typeStart = start;
+        typeEnd = end;
+    }
+    
+    void amount(int start, int end) {
+        amountStart = start;
+        amountEnd = end;
+    }
+    
+    void description(int start, int end, boolean quoted, boolean escaped) {
+        descriptionStart = start;
+        descriptionEnd = end;
+        descriptionQuoted = quoted;
+        descriptionEscaped = escaped;
+    }
+    
+    boolean hasDescription() {
+        return descriptionEnd > descriptionStart;
+    }
+    
+    /**
+     * Compares a byte range with an upper-case ASCII keyword, ignoring case.
+     */
+    private boolean matches(int start, int end, byte[] keyword) {
+        if (end - start != keyword.length) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length; i++) {
+            byte b = buffer.get(start + i);
+            if (b != keyword[i] && b - ('a' - 'A') != keyword[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private IllegalArgumentException invalid(String field) {
+        return new IllegalArgumentException("Invalid " + field + " in record at byte " + offset);
+    }
+}
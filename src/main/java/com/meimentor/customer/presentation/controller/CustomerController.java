@@ -1,8 +1,17 @@
 package com.meimentor.customer.presentation.controller;
 
-import com.meimentor.customer.application.usecase.OpportunityService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meimentor.customer.application.usecase.AnalysisStageMetrics;
+import com.meimentor.customer.application.usecase.AnalysisStageMetrics.Stage;
+import com.meimentor.customer.application.usecase.BatchOpportunityService;
+import com.meimentor.customer.application.usecase.CachedOpportunityService;
+import com.meimentor.customer.application.usecase.OpportunityExportService;
 import com.meimentor.customer.domain.model.OpportunityAnalysis;
+import com.meimentor.customer.presentation.dto.BatchOpportunityRequest;
+import com.meimentor.customer.presentation.dto.BatchOpportunityResultResponse;
 import com.meimentor.customer.presentation.dto.OpportunityAnalysisResponse;
+import com.meimentor.customer.presentation.export.AnalysisExportWriter;
+import com.meimentor.customer.presentation.export.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,12 +19,23 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 
 /**
  * REST Controller for Customer operations.
@@ -32,7 +52,13 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Customer Opportunity", description = "API for analyzing customer opportunities for MEI formalization")
 public class CustomerController {
     
-    private final OpportunityService opportunityService;
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
+    private final CachedOpportunityService cachedOpportunityService;
+    private final BatchOpportunityService batchOpportunityService;
+    private final OpportunityExportService opportunityExportService;
+    private final ObjectMapper objectMapper;
+    private final AnalysisStageMetrics stageMetrics;
     
     /**
      * Analyzes opportunities for a customer identified by CPF.
@@ -42,7 +68,19 @@ public class CustomerController {
      * - Monthly loss from not being formalized
      * - Shadow credit limit for migration incentive</p>
      * 
+     * <p>The stored analysis is returned while it is still fresh; a stale one is returned
+     * immediately and refreshed in the background.</p>
+     * 
+     * <p>With {@code async=true} a customer never analyzed gets the base figures at once
+     * (202, enrichment status PENDING) while market intelligence is computed in the
+     * background; poll this endpoint or subscribe to {@code /{cpf}/stream} for the final result.</p>
+     * 
+     * <p>An optional {@code X-Latency-Budget-Ms} header caps how long a synchronous analysis
+     * may wait on enrichment before using the fallback market intelligence.</p>
+     * 
      * @param cpf the customer CPF (11 digits, numbers only)
+     * @param async whether to return the base figures instead of waiting for enrichment
+     * @param latencyBudgetMs the caller's latency budget in milliseconds (optional)
      * @return opportunity analysis response
      */
     @GetMapping("/{cpf}")
@@ -57,6 +95,11 @@ public class CustomerController {
                     description = "Analysis completed successfully",
                     content = @Content(schema = @Schema(implementation = OpportunityAnalysisResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Base figures returned; enrichment still pending (async mode only)",
+                    content = @Content(schema = @Schema(implementation = OpportunityAnalysisResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid CPF or customer not found"
@@ -67,12 +110,190 @@ public class CustomerController {
             )
     })
     public ResponseEntity<OpportunityAnalysisResponse> analyzeOpportunity(
+            @Parameter(description = "Customer CPF (11 digits)", required = true, example = "12345678901")
+            @PathVariable @NotBlank String cpf,
+            @Parameter(description = "Return the base figures at once instead of waiting for enrichment")
+            @RequestParam(defaultValue = "false") boolean async,
+            @Parameter(description = "Caller latency budget in milliseconds", example = "2000")
+            @RequestHeader(value = "X-Latency-Budget-Ms", required = false) @Positive Long latencyBudgetMs
+    ) {
+        OpportunityAnalysis analysis = async
+                ? cachedOpportunityService.getAnalysisWithoutWaiting(cpf)
+                : latencyBudgetMs != null
+                        ? cachedOpportunityService.getAnalysis(cpf, Duration.ofMillis(latencyBudgetMs))
+                        : cachedOpportunityService.getAnalysis(cpf);
+        OpportunityAnalysisResponse response = stageMetrics.time(
+                Stage.RESPONSE_MAPPING, () -> OpportunityAnalysisResponse.fromDomain(analysis));
+        return ResponseEntity.status(analysis.isEnrichmentPending() ? HttpStatus.ACCEPTED : HttpStatus.OK)
+                .body(response);
+    }
+    
+    /**
+     * Streams the analysis of a customer as Server-Sent Events.
+     * 
+     * <p>The current analysis is sent at once as an {@code analysis} event (the base figures
+     * when enrichment is pending). If it is being computed or refreshed, the final analysis
+     * follows as a second {@code analysis} event; a failed computation ends the stream with
+     * an {@code error} event. A stream that times out first is simply closed.</p>
+     * 
+     * @param cpf the customer CPF (11 digits, numbers only)
+     * @return event stream
+     */
+    @GetMapping(value = "/{cpf}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream customer opportunity analysis",
+            description = "Sends the current analysis immediately and the enriched analysis once it is ready."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream opened",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = OpportunityAnalysisResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid CPF or customer not found"
+            )
+    })
+    public SseEmitter streamOpportunity(
             @Parameter(description = "Customer CPF (11 digits)", required = true, example = "12345678901")
             @PathVariable @NotBlank String cpf
     ) {
-        OpportunityAnalysis analysis = opportunityService.analyzeOpportunity(cpf);
-        OpportunityAnalysisResponse response = OpportunityAnalysisResponse.fromDomain(analysis);
-        return ResponseEntity.ok(response);
+        OpportunityAnalysis current = cachedOpportunityService.getAnalysisWithoutWaiting(cpf);
+        SseEmitter emitter = new SseEmitter();
+        emitter.onTimeout(emitter::complete);
+        sendAnalysis(emitter, current);
+        cachedOpportunityService.awaitCompletion(cpf, current).whenComplete((analysis, error) -> {
+            try {
+                if (error != null) {
+                    emitter.send(SseEmitter.event().name("error").data("Enrichment failed"));
+                } else if (analysis != current) {
+                    sendAnalysis(emitter, analysis);
+                }
+                emitter.complete();
+            } catch (IOException | UncheckedIOException | IllegalStateException e) {
+                // Client went away, or the emitter already timed out or completed
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+    
+    /**
+     * Analyzes opportunities for many customers in one request.
+     * 
+     * <p>The response is streamed as newline-delimited JSON: one line per distinct CPF,
+     * written as soon as that customer's analysis completes. Invalid or unknown CPFs
+     * are reported inline with a non-OK status instead of failing the whole batch.</p>
+     * 
+     * @param request the CPFs to analyze
+     * @return streamed NDJSON body
+     */
+    @PostMapping(value = "/batch", produces = "application/x-ndjson")
+    @Operation(
+            summary = "Analyze customer opportunities in batch",
+            description = "Analyzes up to 10,000 customers per request and streams one NDJSON line per CPF " +
+                         "as each analysis completes. Invalid or unknown CPFs are reported inline."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch accepted; results are streamed",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = BatchOpportunityResultResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized CPF list"
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> analyzeBatch(
+            @Valid @RequestBody BatchOpportunityRequest request
+    ) {
+        StreamingResponseBody body = outputStream -> batchOpportunityService.analyzeBatch(
+                request.cpfs(),
+                result -> writeLine(outputStream, BatchOpportunityResultResponse.fromDomain(result))
+        );
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    /**
+     * Exports every stored opportunity analysis with its market intelligence.
+     * 
+     * <p>Rows are read through a single forward-only database cursor and written straight
+     * to the response, so memory use stays constant regardless of the number of analyses.</p>
+     * 
+     * @param format the output format: ndjson (default) or csv
+     * @return streamed export body
+     */
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export all opportunity analyses",
+            description = "Streams every stored analysis, joined with its market intelligence, as NDJSON or CSV."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export streamed",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = OpportunityAnalysisResponse.class)),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported format"
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportAnalyses(
+            @Parameter(description = "Output format (ndjson or csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        StreamingResponseBody body = outputStream -> {
+            try (AnalysisExportWriter writer = exportFormat.open(outputStream, objectMapper)) {
+                opportunityExportService.exportAll(analysis -> {
+                    try {
+                        writer.write(analysis);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"opportunity-analyses." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+    
+    private void sendAnalysis(SseEmitter emitter, OpportunityAnalysis analysis) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("analysis")
+                    .data(stageMetrics.time(Stage.RESPONSE_MAPPING, () -> OpportunityAnalysisResponse.fromDomain(analysis)),
+                            MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void writeLine(OutputStream outputStream, Object line) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(line));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
-
@@ -0,0 +1,154 @@
+package com.meimentor.customer.presentation.controller;
+
+import com.meimentor.customer.application.usecase.PortfolioRescoringService;
+import com.meimentor.customer.presentation.dto.RescoringJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for portfolio re-scoring jobs.
+ * 
+ * <p>Jobs run in the background; the start and resume endpoints return immediately
+ * and the status endpoint reports per-stage throughput and queue depths while the
+ * job runs.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@RestController
+@RequestMapping("/api/rescoring/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Portfolio Rescoring", description = "API for re-scoring every customer after a scoring-rule change")
+public class RescoringController {
+    
+    private final PortfolioRescoringService rescoringService;
+    
+    /**
+     * Starts a job re-scoring the whole portfolio.
+     * 
+     * @return the status of the started job
+     */
+    @PostMapping
+    @Operation(
+            summary = "Start a portfolio rescoring job",
+            description = "Re-scores every customer through a staged pipeline (load, classify, score, enrich, persist), " +
+                         "checkpointing progress per customer-id partition."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job started",
+                    content = @Content(schema = @Schema(implementation = RescoringJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A rescoring job is already running"
+            )
+    })
+    public ResponseEntity<RescoringJobResponse> start() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(RescoringJobResponse.fromDomain(rescoringService.start()));
+    }
+    
+    /**
+     * Resumes an interrupted job from its checkpoints.
+     * 
+     * @param jobId the job ID
+     * @return the status of the resumed job
+     */
+    @PostMapping("/{jobId}/resume")
+    @Operation(
+            summary = "Resume a rescoring job",
+            description = "Restarts the incomplete partitions of a job right after their last checkpoint."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job resumed",
+                    content = @Content(schema = @Schema(implementation = RescoringJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown job"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A rescoring job is already running"
+            )
+    })
+    public ResponseEntity<RescoringJobResponse> resume(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable UUID jobId
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(RescoringJobResponse.fromDomain(rescoringService.resume(jobId)));
+    }
+    
+    /**
+     * Resumes the most recent incomplete job, e.g. after a crash.
+     * 
+     * @return the status of the resumed job
+     */
+    @PostMapping("/resume-latest")
+    @Operation(
+            summary = "Resume the latest incomplete rescoring job",
+            description = "Finds the most recently checkpointed job with incomplete partitions and resumes it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job resumed",
+                    content = @Content(schema = @Schema(implementation = RescoringJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No incomplete job"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A rescoring job is already running"
+            )
+    })
+    public ResponseEntity<RescoringJobResponse> resumeLatest() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(RescoringJobResponse.fromDomain(rescoringService.resumeLatest()));
+    }
+    
+    /**
+     * Gets the live status of the current (or last) job.
+     * 
+     * @return the job status, or 404 if no job ran since startup
+     */
+    @GetMapping("/current")
+    @Operation(
+            summary = "Get rescoring job status",
+            description = "Reports job progress plus throughput, queue depth and failures per stage."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job status",
+                    content = @Content(schema = @Schema(implementation = RescoringJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No job ran since startup"
+            )
+    })
+    public ResponseEntity<RescoringJobResponse> current() {
+        return rescoringService.currentStatus()
+                .map(RescoringJobResponse::fromDomain)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
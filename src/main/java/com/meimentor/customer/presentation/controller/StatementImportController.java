@@ -0,0 +1,96 @@
+package com.meimentor.customer.presentation.controller;
+
+import com.meimentor.customer.application.usecase.StatementImportService;
+import com.meimentor.customer.presentation.dto.StatementImportRequest;
+import com.meimentor.customer.presentation.dto.StatementImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for bank statement file imports.
+ * 
+ * <p>Imports run in the background; the start endpoint returns immediately and the
+ * status endpoint reports progress and the offset to restart from after a failure.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@Tag(name = "Statement Import", description = "API for importing CSV/OFX bank statement files")
+public class StatementImportController {
+    
+    private final StatementImportService importService;
+    
+    /**
+     * Starts importing a statement file from the import directory.
+     * 
+     * @param request the file, format and optional restart offset
+     * @return the status of the started import
+     */
+    @PostMapping
+    @Operation(
+            summary = "Start a statement file import",
+            description = "Memory-maps a CSV or OFX file from the import directory, parses it in parallel chunks and " +
+                         "writes the transactions of known CPFs through the bulk ingestion writers. Pass the " +
+                         "restartOffset of an interrupted import as fromOffset to resume it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Import started",
+                    content = @Content(schema = @Schema(implementation = StatementImportResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown file or format"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "An import is already running"
+            )
+    })
+    public ResponseEntity<StatementImportResponse> start(@Valid @RequestBody StatementImportRequest request) {
+        long fromOffset = request.fromOffset() != null ? request.fromOffset() : 0;
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(StatementImportResponse.fromDomain(
+                        importService.start(request.file(), request.format(), fromOffset)));
+    }
+    
+    /**
+     * Gets the live status of the current (or last) import.
+     * 
+     * @return the import status, or 404 if no import ran since startup
+     */
+    @GetMapping("/current")
+    @Operation(
+            summary = "Get statement import status",
+            description = "Reports rows parsed, written and skipped, throughput and the restart offset."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import status",
+                    content = @Content(schema = @Schema(implementation = StatementImportResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No import ran since startup"
+            )
+    })
+    public ResponseEntity<StatementImportResponse> current() {
+        return importService.currentStatus()
+                .map(StatementImportResponse::fromDomain)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
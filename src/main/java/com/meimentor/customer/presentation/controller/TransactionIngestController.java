@@ -0,0 +1,90 @@
+package com.meimentor.customer.presentation.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meimentor.customer.application.usecase.TransactionIngestionService;
+import com.meimentor.customer.domain.model.Transaction;
+import com.meimentor.customer.presentation.dto.BulkIngestResponse;
+import com.meimentor.customer.presentation.dto.TransactionIngestRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * REST Controller for bulk transaction ingestion.
+ * 
+ * <p>The request body is parsed one row at a time while it is being received, so a feed of
+ * millions of rows never sits in memory; when the database falls behind, the body is simply
+ * read more slowly.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+@RestController
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+@Tag(name = "Transaction Ingestion", description = "API for high-volume bank statement feeds")
+public class TransactionIngestController {
+    
+    private final TransactionIngestionService ingestionService;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Ingests a stream of transactions.
+     * 
+     * @param body the request body: NDJSON rows or one JSON array of rows
+     * @return the ingestion report
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "application/json"})
+    @Operation(
+            summary = "Ingest transactions in bulk",
+            description = "Streams NDJSON (or a JSON array of) transactions into the database with JDBC batch " +
+                         "inserts and reports rows per second. Rows are written in arrival order per customer.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = TransactionIngestRequest.class)
+                    )
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Feed ingested",
+                    content = @Content(schema = @Schema(implementation = BulkIngestResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed or invalid row; rows before it were written"
+            )
+    })
+    public ResponseEntity<BulkIngestResponse> ingest(InputStream body) throws IOException {
+        try (MappingIterator<TransactionIngestRequest> rows =
+                     objectMapper.readerFor(TransactionIngestRequest.class).readValues(body)) {
+            Iterator<Transaction> transactions = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+                
+                @Override
+                public Transaction next() {
+                    return rows.next().toDomain();
+                }
+            };
+            return ResponseEntity.ok(BulkIngestResponse.fromDomain(ingestionService.ingest(transactions)));
+        }
+    }
+}
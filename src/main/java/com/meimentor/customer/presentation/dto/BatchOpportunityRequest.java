@@ -0,0 +1,18 @@
+package com.meimentor.customer.presentation.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for batch opportunity analysis.
+ * 
+ * @param cpfs the customer CPFs to analyze (up to 10,000 per request)
+ * 
+ * @author MEI-Mentor Team
+ */
+public record BatchOpportunityRequest(
+        @NotEmpty @Size(max = 10000) List<String> cpfs
+) {
+}
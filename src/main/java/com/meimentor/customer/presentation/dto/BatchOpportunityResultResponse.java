@@ -0,0 +1,36 @@
+package com.meimentor.customer.presentation.dto;
+
+import com.meimentor.customer.application.usecase.BatchOpportunityService;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Response DTO for one line of a batch opportunity analysis stream.
+ * 
+ * @param cpf the requested CPF
+ * @param status the outcome (OK, INVALID_CPF, NOT_FOUND or ERROR)
+ * @param message the error message when status is not OK
+ * @param analysis the analysis when status is OK
+ * 
+ * @author MEI-Mentor Team
+ */
+public record BatchOpportunityResultResponse(
+        @NotNull String cpf,
+        @NotNull String status,
+        String message,
+        OpportunityAnalysisResponse analysis
+) {
+    /**
+     * Creates a response DTO from a batch result.
+     * 
+     * @param result the batch result
+     * @return BatchOpportunityResultResponse
+     */
+    public static BatchOpportunityResultResponse fromDomain(BatchOpportunityService.Result result) {
+        return new BatchOpportunityResultResponse(
+                result.cpf(),
+                result.status().name(),
+                result.message(),
+                result.analysis() != null ? OpportunityAnalysisResponse.fromDomain(result.analysis()) : null
+        );
+    }
+}
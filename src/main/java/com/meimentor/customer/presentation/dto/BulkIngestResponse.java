@@ -0,0 +1,48 @@
+package com.meimentor.customer.presentation.dto;
+
+import com.meimentor.customer.application.usecase.TransactionIngestionService;
+
+/**
+ * Response DTO summarising a bulk transaction ingestion.
+ * 
+ * @param rowsReceived rows read from the request body
+ * @param rowsWritten rows committed to the database
+ * @param rowsFailed rows of batches that failed to write
+ * @param batches batches committed
+ * @param elapsedMillis wall-clock duration of the ingestion
+ * @param rowsPerSecond rows committed per second
+ * @param backPressureMillis time the body was not read because the writers were behind
+ * @param firstError message of the first failed batch (null if none failed)
+ * 
+ * @author MEI-Mentor Team
+ */
+public record BulkIngestResponse(
+        long rowsReceived,
+        long rowsWritten,
+        long rowsFailed,
+        long batches,
+        long elapsedMillis,
+        double rowsPerSecond,
+        long backPressureMillis,
+        String firstError
+) {
+    
+    /**
+     * Creates a response DTO from an ingestion report.
+     * 
+     * @param report the ingestion report
+     * @return BulkIngestResponse
+     */
+    public static BulkIngestResponse fromDomain(TransactionIngestionService.IngestionReport report) {
+        return new BulkIngestResponse(
+                report.rowsReceived(),
+                report.rowsWritten(),
+                report.rowsFailed(),
+                report.batches(),
+                report.elapsedMillis(),
+                Math.round(report.rowsPerSecond() * 10) / 10.0,
+                report.backPressureMillis(),
+                report.firstError()
+        );
+    }
+}
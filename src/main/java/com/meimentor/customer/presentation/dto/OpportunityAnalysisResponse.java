@@ -1,9 +1,11 @@
 package com.meimentor.customer.presentation.dto;
 
+import com.meimentor.customer.domain.model.EnrichmentStatus;
 import com.meimentor.customer.domain.model.OpportunityAnalysis;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -20,6 +22,8 @@ import java.util.UUID;
  * @param identifiedRevenue the identified commercial revenue
  * @param recommendation the recommendation message
  * @param marketIntelligence the market intelligence data
+ * @param analyzedAt when the analysis was computed
+ * @param enrichmentStatus PENDING while market intelligence is still being computed, otherwise COMPLETED
  * 
  * @author MEI-Mentor Team
  */
@@ -31,7 +35,9 @@ public record OpportunityAnalysisResponse(
         @NotNull BigDecimal shadowLimit,
         @NotNull BigDecimal identifiedRevenue,
         @NotNull String recommendation,
-        MarketIntelligenceResponse marketIntelligence
+        MarketIntelligenceResponse marketIntelligence,
+        Instant analyzedAt,
+        @NotNull EnrichmentStatus enrichmentStatus
 ) {
     /**
      * Creates a response DTO from domain model.
@@ -48,7 +54,9 @@ public record OpportunityAnalysisResponse(
                 analysis.getShadowLimit(),
                 analysis.getIdentifiedRevenue(),
                 analysis.getRecommendation(),
-                MarketIntelligenceResponse.fromDomain(analysis.getMarketIntelligence())
+                MarketIntelligenceResponse.fromDomain(analysis.getMarketIntelligence()),
+                analysis.getAnalyzedAt(),
+                analysis.getEnrichmentStatus()
         );
     }
 }
@@ -0,0 +1,88 @@
+package com.meimentor.customer.presentation.dto;
+
+import com.meimentor.customer.application.usecase.PortfolioRescoringService;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for the status of a portfolio re-scoring job.
+ * 
+ * @param jobId the job ID
+ * @param state the job state (RUNNING, COMPLETED or FAILED)
+ * @param startedAt when this run started
+ * @param finishedAt when this run finished (null while running)
+ * @param partitions the number of id-range partitions
+ * @param partitionsCompleted the number of fully processed partitions
+ * @param customersProcessed customers persisted by this run
+ * @param customersFailed customers that failed in any stage of this run
+ * @param stages per-stage statistics, in pipeline order
+ * 
+ * @author MEI-Mentor Team
+ */
+public record RescoringJobResponse(
+        @NotNull UUID jobId,
+        @NotNull String state,
+        @NotNull Instant startedAt,
+        Instant finishedAt,
+        int partitions,
+        int partitionsCompleted,
+        long customersProcessed,
+        long customersFailed,
+        @NotNull List<StageResponse> stages
+) {
+    /**
+     * Statistics of one pipeline stage.
+     * 
+     * @param name the stage name (load, classify, score, enrich, persist)
+     * @param workers the number of workers
+     * @param queueDepth items waiting in the stage queue
+     * @param queueCapacity the stage queue capacity
+     * @param processed items handled successfully
+     * @param failed items that failed in this stage
+     * @param throughputPerSecond items handled per second since the job started
+     */
+    public record StageResponse(
+            @NotNull String name,
+            int workers,
+            int queueDepth,
+            int queueCapacity,
+            long processed,
+            long failed,
+            double throughputPerSecond
+    ) {
+    }
+    
+    /**
+     * Creates a response DTO from a job status.
+     * 
+     * @param status the job status
+     * @return RescoringJobResponse
+     */
+    public static RescoringJobResponse fromDomain(PortfolioRescoringService.JobStatus status) {
+        List<StageResponse> stages = status.stages().stream()
+                .map(stage -> new StageResponse(
+                        stage.name(),
+                        stage.workers(),
+                        stage.queueDepth(),
+                        stage.queueCapacity(),
+                        stage.processed(),
+                        stage.failed(),
+                        Math.round(stage.throughputPerSecond() * 10) / 10.0
+                ))
+                .toList();
+        return new RescoringJobResponse(
+                status.jobId(),
+                status.state().name(),
+                status.startedAt(),
+                status.finishedAt(),
+                status.partitions(),
+                status.partitionsCompleted(),
+                status.customersProcessed(),
+                status.customersFailed(),
+                stages
+        );
+    }
+}
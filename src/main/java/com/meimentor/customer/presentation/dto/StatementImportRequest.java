@@ -0,0 +1,20 @@
+package com.meimentor.customer.presentation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Request DTO for importing a bank statement file.
+ * 
+ * @param file the file name, relative to the configured import directory
+ * @param format CSV or OFX (optional; told by the file extension when absent)
+ * @param fromOffset byte offset to restart from (optional; the restartOffset of an earlier import)
+ * 
+ * @author MEI-Mentor Team
+ */
+public record StatementImportRequest(
+        @NotBlank String file,
+        String format,
+        @PositiveOrZero Long fromOffset
+) {
+}
@@ -0,0 +1,91 @@
+package com.meimentor.customer.presentation.dto;
+
+import com.meimentor.customer.application.usecase.StatementImportService;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Response DTO for the status of a statement file import.
+ * 
+ * @param importId the import ID
+ * @param file the file path
+ * @param format the file layout (CSV or OFX)
+ * @param state the import state (RUNNING, COMPLETED or FAILED)
+ * @param startedAt when the import started
+ * @param finishedAt when the import finished (null while running)
+ * @param fileSize the file size in bytes
+ * @param startOffset the offset the import started from
+ * @param restartOffset the offset to restart from; every row before it is committed
+ * @param committedPercent share of the file before the restart offset
+ * @param bytesParsed bytes of the chunks fully parsed
+ * @param chunks the number of chunks
+ * @param chunksCommitted chunks whose rows are all committed
+ * @param rowsParsed records read from the file
+ * @param rowsWritten rows committed to the database
+ * @param rowsFailed rows of batches that failed to write
+ * @param rowsRejected malformed records skipped
+ * @param rowsUnknownCustomer records skipped because no customer has their CPF
+ * @param rowsPerSecond rows committed per second
+ * @param firstError the first rejected record or failure (null if none)
+ * 
+ * @author MEI-Mentor Team
+ */
+public record StatementImportResponse(
+        @NotNull UUID importId,
+        @NotNull String file,
+        @NotNull String format,
+        @NotNull String state,
+        @NotNull Instant startedAt,
+        Instant finishedAt,
+        long fileSize,
+        long startOffset,
+        long restartOffset,
+        double committedPercent,
+        long bytesParsed,
+        int chunks,
+        int chunksCommitted,
+        long rowsParsed,
+        long rowsWritten,
+        long rowsFailed,
+        long rowsRejected,
+        long rowsUnknownCustomer,
+        double rowsPerSecond,
+        String firstError
+) {
+    
+    /**
+     * Creates a response DTO from an import status.
+     * 
+     * @param status the import status
+     * @return StatementImportResponse
+     */
+    public static StatementImportResponse fromDomain(StatementImportService.ImportStatus status) {
+        double committedPercent = status.fileSize() > 0
+                ? Math.round(status.restartOffset() * 1000.0 / status.fileSize()) / 10.0
+                : 0;
+        return new StatementImportResponse(
+                status.importId(),
+                status.file(),
+                status.format().name(),
+                status.state().name(),
+                status.startedAt(),
+                status.finishedAt(),
+                status.fileSize(),
+                status.startOffset(),
+                status.restartOffset(),
+                committedPercent,
+                status.bytesParsed(),
+                status.chunks(),
+                status.chunksCommitted(),
+                status.rowsParsed(),
+                status.rowsWritten(),
+                status.rowsFailed(),
+                status.rowsRejected(),
+                status.rowsUnknownCustomer(),
+                Math.round(status.rowsPerSecond() * 10) / 10.0,
+                status.firstError()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.meimentor.customer.presentation.dto;
+
+import com.meimentor.customer.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Request DTO for one row of a bulk transaction feed.
+ * 
+ * @param customerId the customer ID
+ * @param date when the transaction happened (ISO-8601 local date-time)
+ * @param amount the positive transaction amount
+ * @param type CREDIT (money received) or DEBIT (money spent)
+ * @param description the bank statement description
+ * 
+ * @author MEI-Mentor Team
+ */
+public record TransactionIngestRequest(
+        UUID customerId,
+        LocalDateTime date,
+        BigDecimal amount,
+        String type,
+        String description
+) {
+    
+    /**
+     * Converts this row to a domain transaction.
+     * 
+     * <p>Rows are validated here rather than with bean validation because the feed is parsed
+     * one row at a time, outside Spring MVC argument resolution.</p>
+     * 
+     * @return Transaction domain model without an ID
+     * @throws IllegalArgumentException if a required field is missing or invalid
+     */
+    public Transaction toDomain() {
+        if (customerId == null || date == null || amount == null || type == null) {
+            throw new IllegalArgumentException("customerId, date, amount and type are required");
+        }
+        if (amount.signum() <= 0) {
+            throw new IllegalArgumentException("amount must be positive");
+        }
+        Transaction.TransactionType transactionType;
+        try {
+            transactionType = Transaction.TransactionType.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("type must be CREDIT or DEBIT");
+        }
+        return Transaction.builder()
+                .customerId(customerId)
+                .date(date)
+                .amount(amount)
+                .type(transactionType)
+                .description(description)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.meimentor.customer.presentation.export;
+
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes exported analyses to a response stream, one record at a time.
+ * 
+ * <p>Implementations buffer a bounded amount of output and never hold on to
+ * analyses already written.</p>
+ * 
+ * @author MEI-Mentor Team
+ */
+public interface AnalysisExportWriter extends Closeable {
+    
+    /**
+     * Writes one analysis.
+     * 
+     * @param analysis the analysis to write
+     * @throws IOException if the stream cannot be written (e.g. client disconnected)
+     */
+    void write(OpportunityAnalysis analysis) throws IOException;
+}
@@ -0,0 +1,109 @@
+package com.meimentor.customer.presentation.export;
+
+import com.meimentor.customer.domain.model.MarketIntelligence;
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes analyses as RFC 4180 CSV with a header row; market intelligence columns are
+ * empty when an analysis has none.
+ * 
+ * @author MEI-Mentor Team
+ */
+class CsvAnalysisExportWriter implements AnalysisExportWriter {
+    
+    private static final String HEADER = "id,customerId,potentialScore,monthlyLoss,shadowLimit,identifiedRevenue,"
+            + "recommendation,analyzedAt,businessNiche,digitalPresenceScore,estimatedMaturity,socialMediaPlatform,"
+            + "socialMediaFollowers,hasGoogleMapsPresence,recommendedApproach";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Writer writer;
+    private boolean headerWritten;
+    
+    CsvAnalysisExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+    
+    @Override
+    public void write(OpportunityAnalysis analysis) throws IOException {
+        writeHeaderOnce();
+        
+        MarketIntelligence intelligence = analysis.getMarketIntelligence();
+        field(analysis.getId()).comma();
+        field(analysis.getCustomerId()).comma();
+        field(analysis.getPotentialScore()).comma();
+        field(analysis.getMonthlyLoss()).comma();
+        field(analysis.getShadowLimit()).comma();
+        field(analysis.getIdentifiedRevenue()).comma();
+        field(analysis.getRecommendation()).comma();
+        field(analysis.getAnalyzedAt()).comma();
+        if (intelligence != null) {
+            field(intelligence.getBusinessNiche()).comma();
+            field(intelligence.getDigitalPresenceScore()).comma();
+            field(intelligence.getEstimatedMaturity()).comma();
+            field(intelligence.getSocialMediaPlatform()).comma();
+            field(intelligence.getSocialMediaFollowers()).comma();
+            field(intelligence.getHasGoogleMapsPresence()).comma();
+            field(intelligence.getRecommendedApproach());
+        } else {
+            writer.write(",,,,,,");
+        }
+        writer.write("\r\n");
+    }
+    
+    @Override
+    public void close() throws IOException {
+        // An empty export still gets its header
+        writeHeaderOnce();
+        writer.flush();
+    }
+    
+    private void writeHeaderOnce() throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            writer.write("\r\n");
+            headerWritten = true;
+        }
+    }
+    
+    private CsvAnalysisExportWriter field(Object value) throws IOException {
+        if (value == null) {
+            return this;
+        }
+        String text = value.toString();
+        if (needsQuoting(text)) {
+            writer.write('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+        return this;
+    }
+    
+    private void comma() throws IOException {
+        writer.write(',');
+    }
+    
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+package com.meimentor.customer.presentation.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Output formats supported by the opportunity analysis export.
+ * 
+ * @author MEI-Mentor Team
+ */
+public enum ExportFormat {
+    
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+    
+    private final MediaType mediaType;
+    private final String fileExtension;
+    
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.fileExtension = fileExtension;
+    }
+    
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+    
+    /**
+     * Opens a writer of this format over a response stream.
+     * 
+     * @param outputStream the response stream
+     * @param objectMapper the application object mapper (used by NDJSON)
+     * @return a writer; closing it flushes but does not close the stream
+     */
+    public AnalysisExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonAnalysisExportWriter(outputStream, objectMapper);
+            case CSV -> new CsvAnalysisExportWriter(outputStream);
+        };
+    }
+    
+    /**
+     * Parses a format name, ignoring case.
+     * 
+     * @param name the format name (ndjson or csv)
+     * @return the format
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static ExportFormat fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + name + " (use ndjson or csv)");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.meimentor.customer.presentation.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.meimentor.customer.domain.model.OpportunityAnalysis;
+import com.meimentor.customer.presentation.dto.OpportunityAnalysisResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes analyses as newline-delimited JSON, one {@link OpportunityAnalysisResponse} per line.
+ * 
+ * @author MEI-Mentor Team
+ */
+class NdjsonAnalysisExportWriter implements AnalysisExportWriter {
+    
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+    
+    NdjsonAnalysisExportWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        // Flushing per row would send one network chunk per analysis; the generator buffer batches them
+        this.objectWriter = objectMapper.writerFor(OpportunityAnalysisResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream);
+            // The servlet container owns the response stream
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are separated explicitly instead of by the default space
+            this.generator.setRootValueSeparator(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void write(OpportunityAnalysis analysis) throws IOException {
+        objectWriter.writeValue(generator, OpportunityAnalysisResponse.fromDomain(analysis));
+        generator.writeRaw('\n');
+    }
+    
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}